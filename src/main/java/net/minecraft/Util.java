@@ -68,6 +68,7 @@ public class Util {
    private static final ExecutorService BOOTSTRAP_EXECUTOR = makeExecutor("Bootstrap");
    private static final ExecutorService BACKGROUND_EXECUTOR = makeExecutor("Main");
    private static final ExecutorService IO_POOL = makeIoExecutor();
+   private static final ExecutorService EXPLOSION_EXECUTOR = makeExecutor("Explosion", 3);
    public static LongSupplier timeSource = System::nanoTime;
    public static final UUID NIL_UUID = new UUID(0L, 0L);
    public static final FileSystemProvider ZIP_FILE_SYSTEM_PROVIDER = FileSystemProvider.installedProviders().stream().filter((p_143794_) -> {
@@ -102,7 +103,11 @@ public class Util {
    }
 
    private static ExecutorService makeExecutor(String pServiceName) {
-      int i = Mth.clamp(Runtime.getRuntime().availableProcessors() - 1, 1, 7);
+      return makeExecutor(pServiceName, 7);
+   }
+
+   private static ExecutorService makeExecutor(String pServiceName, int pMaxThreads) {
+      int i = Mth.clamp(Runtime.getRuntime().availableProcessors() - 1, 1, pMaxThreads);
       ExecutorService executorservice;
       if (i <= 0) {
          executorservice = MoreExecutors.newDirectExecutorService();
@@ -139,9 +144,14 @@ public class Util {
       return IO_POOL;
    }
 
+   public static Executor explosionExecutor() {
+      return EXPLOSION_EXECUTOR;
+   }
+
    public static void shutdownExecutors() {
       shutdownExecutor(BACKGROUND_EXECUTOR);
       shutdownExecutor(IO_POOL);
+      shutdownExecutor(EXPLOSION_EXECUTOR);
    }
 
    private static void shutdownExecutor(ExecutorService pService) {
@@ -198,6 +198,7 @@ import net.minecraft.network.protocol.game.ServerboundMovePlayerPacket;
 import net.minecraft.network.protocol.game.ServerboundMoveVehiclePacket;
 import net.minecraft.network.protocol.game.ServerboundPongPacket;
 import net.minecraft.network.protocol.game.ServerboundResourcePackPacket;
+import net.minecraft.network.syncher.SynchedEntityData;
 import net.minecraft.realms.DisconnectedRealmsScreen;
 import net.minecraft.realms.RealmsScreen;
 import net.minecraft.resources.ResourceKey;
@@ -429,8 +430,11 @@ public class ClientPacketListener implements ClientGamePacketListener {
    public void handleSetEntityData(ClientboundSetEntityDataPacket pPacket) {
       PacketUtils.ensureRunningOnSameThread(pPacket, this, this.minecraft);
       Entity entity = this.level.getEntity(pPacket.getId());
-      if (entity != null && pPacket.getUnpackedData() != null) {
-         entity.getEntityData().assignValues(pPacket.getUnpackedData());
+      if (entity != null) {
+         List<SynchedEntityData.DataItem<?>> list = pPacket.getUnpackedData();
+         if (list != null) {
+            entity.getEntityData().assignValues(list);
+         }
       }
 
    }
@@ -1,5 +1,6 @@
 package net.minecraft.network.protocol.game;
 
+import io.netty.buffer.Unpooled;
 import java.util.List;
 import javax.annotation.Nullable;
 import net.minecraft.network.FriendlyByteBuf;
@@ -10,26 +11,37 @@ public class ClientboundSetEntityDataPacket implements Packet<ClientGamePacketLi
    private final int id;
    @Nullable
    private final List<SynchedEntityData.DataItem<?>> packedItems;
+   @Nullable
+   private final FriendlyByteBuf packedData;
 
    public ClientboundSetEntityDataPacket(int pId, SynchedEntityData pEntityData, boolean pSendAll) {
       this.id = pId;
+      this.packedItems = null;
+      this.packedData = new FriendlyByteBuf(Unpooled.buffer());
       if (pSendAll) {
-         this.packedItems = pEntityData.getAll();
+         pEntityData.packAll(this.packedData);
          pEntityData.clearDirty();
       } else {
-         this.packedItems = pEntityData.packDirty();
+         pEntityData.packDirty(this.packedData);
       }
 
+      this.packedData.writeByte(255);
    }
 
    public ClientboundSetEntityDataPacket(FriendlyByteBuf p_179290_) {
       this.id = p_179290_.readVarInt();
       this.packedItems = SynchedEntityData.unpack(p_179290_);
+      this.packedData = null;
    }
 
    public void write(FriendlyByteBuf pBuffer) {
       pBuffer.writeVarInt(this.id);
-      SynchedEntityData.pack(this.packedItems, pBuffer);
+      if (this.packedData != null) {
+         pBuffer.writeBytes(this.packedData, this.packedData.readerIndex(), this.packedData.readableBytes());
+      } else {
+         SynchedEntityData.pack(this.packedItems, pBuffer);
+      }
+
    }
 
    public void handle(ClientGamePacketListener pHandler) {
@@ -38,7 +50,7 @@ public class ClientboundSetEntityDataPacket implements Packet<ClientGamePacketLi
 
    @Nullable
    public List<SynchedEntityData.DataItem<?>> getUnpackedData() {
-      return this.packedItems;
+      return this.packedData != null ? SynchedEntityData.unpack(new FriendlyByteBuf(this.packedData.duplicate())) : this.packedItems;
    }
 
    public int getId() {
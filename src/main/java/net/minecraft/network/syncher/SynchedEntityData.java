@@ -3,14 +3,11 @@ package net.minecraft.network.syncher;
 import com.google.common.collect.Lists;
 import io.netty.handler.codec.DecoderException;
 import io.netty.handler.codec.EncoderException;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import javax.annotation.Nullable;
 import net.minecraft.CrashReport;
 import net.minecraft.CrashReportCategory;
@@ -27,8 +24,8 @@ public class SynchedEntityData {
    private static final int EOF_MARKER = 255;
    private static final int MAX_ID_VALUE = 254;
    private final Entity entity;
-   private final Int2ObjectMap<SynchedEntityData.DataItem<?>> itemsById = new Int2ObjectOpenHashMap<>();
-   private final ReadWriteLock lock = new ReentrantReadWriteLock();
+   private SynchedEntityData.DataItem<?>[] itemsById = new SynchedEntityData.DataItem[0];
+   private final long[] dirtyIds = new long[4];
    private boolean isEmpty = true;
    private boolean isDirty;
 
@@ -77,7 +74,7 @@ public class SynchedEntityData {
       int i = pKey.getId();
       if (i > 254) {
          throw new IllegalArgumentException("Data value id is too big with " + i + "! (Max is 254)");
-      } else if (this.itemsById.containsKey(i)) {
+      } else if (i < this.itemsById.length && this.itemsById[i] != null) {
          throw new IllegalArgumentException("Duplicate id value for " + i + "!");
       } else if (EntityDataSerializers.getSerializedId(pKey.getSerializer()) < 0) {
          throw new IllegalArgumentException("Unregistered serializer " + pKey.getSerializer() + " for " + i + "!");
@@ -88,28 +85,25 @@ public class SynchedEntityData {
 
    private <T> void createDataItem(EntityDataAccessor<T> pKey, T pValue) {
       SynchedEntityData.DataItem<T> dataitem = new SynchedEntityData.DataItem<>(pKey, pValue);
-      this.lock.writeLock().lock();
-      this.itemsById.put(pKey.getId(), dataitem);
+      int i = pKey.getId();
+      if (i >= this.itemsById.length) {
+         this.itemsById = Arrays.copyOf(this.itemsById, i + 1);
+      }
+
+      this.itemsById[i] = dataitem;
+      this.dirtyIds[i >> 6] |= 1L << i;
       this.isEmpty = false;
-      this.lock.writeLock().unlock();
    }
 
    private <T> SynchedEntityData.DataItem<T> getItem(EntityDataAccessor<T> pKey) {
-      this.lock.readLock().lock();
-
-      SynchedEntityData.DataItem<T> dataitem;
       try {
-         dataitem = (SynchedEntityData.DataItem<T>)this.itemsById.get(pKey.getId());
+         return (SynchedEntityData.DataItem<T>)this.itemsById[pKey.getId()];
       } catch (Throwable throwable) {
          CrashReport crashreport = CrashReport.forThrowable(throwable, "Getting synched entity data");
          CrashReportCategory crashreportcategory = crashreport.addCategory("Synched entity data");
          crashreportcategory.setDetail("Data ID", pKey);
          throw new ReportedException(crashreport);
-      } finally {
-         this.lock.readLock().unlock();
       }
-
-      return dataitem;
    }
 
    public <T> T get(EntityDataAccessor<T> pKey) {
@@ -121,7 +115,7 @@ public class SynchedEntityData {
       if (ObjectUtils.notEqual(pValue, dataitem.getValue())) {
          dataitem.setValue(pValue);
          this.entity.onSyncedDataUpdated(pKey);
-         dataitem.setDirty(true);
+         this.dirtyIds[pKey.getId() >> 6] |= 1L << pKey.getId();
          this.isDirty = true;
       }
 
@@ -141,44 +135,47 @@ public class SynchedEntityData {
       pBuffer.writeByte(255);
    }
 
-   @Nullable
-   public List<SynchedEntityData.DataItem<?>> packDirty() {
-      List<SynchedEntityData.DataItem<?>> list = null;
+   public void packDirty(FriendlyByteBuf pBuffer) {
       if (this.isDirty) {
-         this.lock.readLock().lock();
+         for(int i = 0; i < this.dirtyIds.length; ++i) {
+            long j = this.dirtyIds[i];
 
-         for(SynchedEntityData.DataItem<?> dataitem : this.itemsById.values()) {
-            if (dataitem.isDirty()) {
-               dataitem.setDirty(false);
-               if (list == null) {
-                  list = Lists.newArrayList();
-               }
-
-               list.add(dataitem.copy());
+            while(j != 0L) {
+               int k = (i << 6) + Long.numberOfTrailingZeros(j);
+               j &= j - 1L;
+               writeDataItem(pBuffer, this.itemsById[k]);
             }
-         }
 
-         this.lock.readLock().unlock();
+            this.dirtyIds[i] = 0L;
+         }
       }
 
       this.isDirty = false;
-      return list;
+   }
+
+   public void packAll(FriendlyByteBuf pBuffer) {
+      for(SynchedEntityData.DataItem<?> dataitem : this.itemsById) {
+         if (dataitem != null) {
+            writeDataItem(pBuffer, dataitem);
+         }
+      }
+
    }
 
    @Nullable
    public List<SynchedEntityData.DataItem<?>> getAll() {
       List<SynchedEntityData.DataItem<?>> list = null;
-      this.lock.readLock().lock();
 
-      for(SynchedEntityData.DataItem<?> dataitem : this.itemsById.values()) {
-         if (list == null) {
-            list = Lists.newArrayList();
-         }
+      for(SynchedEntityData.DataItem<?> dataitem : this.itemsById) {
+         if (dataitem != null) {
+            if (list == null) {
+               list = Lists.newArrayList();
+            }
 
-         list.add(dataitem.copy());
+            list.add(dataitem.copy());
+         }
       }
 
-      this.lock.readLock().unlock();
       return list;
    }
 
@@ -221,18 +218,13 @@ public class SynchedEntityData {
    }
 
    public void assignValues(List<SynchedEntityData.DataItem<?>> pEntries) {
-      this.lock.writeLock().lock();
-
-      try {
-         for(SynchedEntityData.DataItem<?> dataitem : pEntries) {
-            SynchedEntityData.DataItem<?> dataitem1 = this.itemsById.get(dataitem.getAccessor().getId());
-            if (dataitem1 != null) {
-               this.assignValue(dataitem1, dataitem);
-               this.entity.onSyncedDataUpdated(dataitem.getAccessor());
-            }
+      for(SynchedEntityData.DataItem<?> dataitem : pEntries) {
+         int i = dataitem.getAccessor().getId();
+         SynchedEntityData.DataItem<?> dataitem1 = i < this.itemsById.length ? this.itemsById[i] : null;
+         if (dataitem1 != null) {
+            this.assignValue(dataitem1, dataitem);
+            this.entity.onSyncedDataUpdated(dataitem.getAccessor());
          }
-      } finally {
-         this.lock.writeLock().unlock();
       }
 
       this.isDirty = true;
@@ -252,24 +244,16 @@ public class SynchedEntityData {
 
    public void clearDirty() {
       this.isDirty = false;
-      this.lock.readLock().lock();
-
-      for(SynchedEntityData.DataItem<?> dataitem : this.itemsById.values()) {
-         dataitem.setDirty(false);
-      }
-
-      this.lock.readLock().unlock();
+      Arrays.fill(this.dirtyIds, 0L);
    }
 
    public static class DataItem<T> {
       final EntityDataAccessor<T> accessor;
       T value;
-      private boolean dirty;
 
       public DataItem(EntityDataAccessor<T> pAccessor, T pValue) {
          this.accessor = pAccessor;
          this.value = pValue;
-         this.dirty = true;
       }
 
       public EntityDataAccessor<T> getAccessor() {
@@ -284,14 +268,6 @@ public class SynchedEntityData {
          return this.value;
       }
 
-      public boolean isDirty() {
-         return this.dirty;
-      }
-
-      public void setDirty(boolean pDirty) {
-         this.dirty = pDirty;
-      }
-
       public SynchedEntityData.DataItem<T> copy() {
          return new SynchedEntityData.DataItem<>(this.accessor, this.accessor.getSerializer().copy(this.value));
       }
@@ -1035,6 +1035,10 @@ public abstract class MinecraftServer extends ReentrantBlockableEventLoop<TickTa
       return p_129935_;
    }
 
+   public int getScaledActivationRange(int pRange) {
+      return 0;
+   }
+
    private void updateMobSpawningFlags() {
       for(ServerLevel serverlevel : this.getAllLevels()) {
          serverlevel.setSpawnSettings(this.isSpawningMonsters(), this.isSpawningAnimals());
@@ -17,9 +17,6 @@ public class LocateBiomeCommand {
    public static final DynamicCommandExceptionType ERROR_INVALID_BIOME = new DynamicCommandExceptionType((p_137850_) -> {
       return new TranslatableComponent("commands.locatebiome.invalid", p_137850_);
    });
-   private static final DynamicCommandExceptionType ERROR_BIOME_NOT_FOUND = new DynamicCommandExceptionType((p_137846_) -> {
-      return new TranslatableComponent("commands.locatebiome.notFound", p_137846_);
-   });
    private static final int MAX_SEARCH_RADIUS = 6400;
    private static final int SEARCH_STEP = 8;
 
@@ -36,12 +33,15 @@ public class LocateBiomeCommand {
          return ERROR_INVALID_BIOME.create(p_137844_);
       });
       BlockPos blockpos = new BlockPos(p_137843_.getPosition());
-      BlockPos blockpos1 = p_137843_.getLevel().findNearestBiome(biome, blockpos, 6400, 8);
       String s = p_137844_.toString();
-      if (blockpos1 == null) {
-         throw ERROR_BIOME_NOT_FOUND.create(s);
-      } else {
-         return LocateCommand.showLocateResult(p_137843_, s, blockpos, blockpos1, "commands.locatebiome.success");
-      }
+      p_137843_.getLevel().findNearestBiomeAsync(biome, blockpos, 6400, 8).thenAcceptAsync((p_182038_) -> {
+         if (p_182038_ == null) {
+            p_137843_.sendFailure(new TranslatableComponent("commands.locatebiome.notFound", s));
+         } else {
+            LocateCommand.showLocateResult(p_137843_, s, blockpos, p_182038_, "commands.locatebiome.success");
+         }
+
+      }, p_137843_.getServer());
+      return 1;
    }
 }
\ No newline at end of file
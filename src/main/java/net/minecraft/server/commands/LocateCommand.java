@@ -2,8 +2,6 @@ package net.minecraft.server.commands;
 
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
-import com.mojang.brigadier.exceptions.CommandSyntaxException;
-import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
 import java.util.Map.Entry;
 import net.minecraft.ChatFormatting;
 import net.minecraft.commands.CommandSourceStack;
@@ -18,8 +16,6 @@ import net.minecraft.util.Mth;
 import net.minecraft.world.level.levelgen.feature.StructureFeature;
 
 public class LocateCommand {
-   private static final SimpleCommandExceptionType ERROR_FAILED = new SimpleCommandExceptionType(new TranslatableComponent("commands.locate.failed"));
-
    public static void register(CommandDispatcher<CommandSourceStack> pDispatcher) {
       LiteralArgumentBuilder<CommandSourceStack> literalargumentbuilder = Commands.literal("locate").requires((p_137861_) -> {
          return p_137861_.hasPermission(2);
@@ -34,14 +30,17 @@ public class LocateCommand {
       pDispatcher.register(literalargumentbuilder);
    }
 
-   private static int locate(CommandSourceStack p_137863_, StructureFeature<?> p_137864_) throws CommandSyntaxException {
+   private static int locate(CommandSourceStack p_137863_, StructureFeature<?> p_137864_) {
       BlockPos blockpos = new BlockPos(p_137863_.getPosition());
-      BlockPos blockpos1 = p_137863_.getLevel().findNearestMapFeature(p_137864_, blockpos, 100, false);
-      if (blockpos1 == null) {
-         throw ERROR_FAILED.create();
-      } else {
-         return showLocateResult(p_137863_, p_137864_.getFeatureName(), blockpos, blockpos1, "commands.locate.success");
-      }
+      p_137863_.getLevel().findNearestMapFeatureAsync(p_137864_, blockpos, 100, false).thenAccept((p_182030_) -> {
+         if (p_182030_ == null) {
+            p_137863_.sendFailure(new TranslatableComponent("commands.locate.failed"));
+         } else {
+            showLocateResult(p_137863_, p_137864_.getFeatureName(), blockpos, p_182030_, "commands.locate.success");
+         }
+
+      });
+      return 1;
    }
 
    public static int showLocateResult(CommandSourceStack p_137866_, String p_137867_, BlockPos p_137868_, BlockPos p_137869_, String p_137870_) {
@@ -277,6 +277,7 @@ public class DedicatedServer extends MinecraftServer implements ServerInterface
          writer.write(String.format("gamemode=%s%n", dedicatedserverproperties.gamemode));
          writer.write(String.format("spawn-monsters=%s%n", dedicatedserverproperties.spawnMonsters));
          writer.write(String.format("entity-broadcast-range-percentage=%d%n", dedicatedserverproperties.entityBroadcastRangePercentage));
+         writer.write(String.format("entity-activation-range-percentage=%d%n", dedicatedserverproperties.entityActivationRangePercentage));
          writer.write(String.format("max-world-size=%d%n", dedicatedserverproperties.maxWorldSize));
          writer.write(String.format("spawn-npcs=%s%n", dedicatedserverproperties.spawnNpcs));
          writer.write(String.format("view-distance=%d%n", dedicatedserverproperties.viewDistance));
@@ -562,6 +563,10 @@ public class DedicatedServer extends MinecraftServer implements ServerInterface
       return this.getProperties().entityBroadcastRangePercentage * p_139659_ / 100;
    }
 
+   public int getScaledActivationRange(int pRange) {
+      return this.getProperties().entityActivationRangePercentage * pRange / 100;
+   }
+
    public String getLevelIdName() {
       return this.storageSource.getLevelId();
    }
@@ -57,6 +57,7 @@ public class DedicatedServerProperties extends Settings<DedicatedServerPropertie
    public final boolean enableJmxMonitoring;
    public final boolean enableStatus;
    public final int entityBroadcastRangePercentage;
+   public final int entityActivationRangePercentage;
    public final String textFilteringConfig;
    public final Settings<DedicatedServerProperties>.MutableValue<Integer> playerIdleTimeout;
    public final Settings<DedicatedServerProperties>.MutableValue<Boolean> whiteList;
@@ -90,6 +91,9 @@ public class DedicatedServerProperties extends Settings<DedicatedServerPropertie
       this.entityBroadcastRangePercentage = this.get("entity-broadcast-range-percentage", (p_139769_) -> {
          return Mth.clamp(p_139769_, 10, 1000);
       }, 100);
+      this.entityActivationRangePercentage = this.get("entity-activation-range-percentage", (p_182014_) -> {
+         return Mth.clamp(p_182014_, 0, 1000);
+      }, 100);
       this.textFilteringConfig = this.get("text-filtering-config", "");
       this.playerIdleTimeout = this.getMutable("player-idle-timeout", 0);
       this.whiteList = this.getMutable("white-list", false);
@@ -109,6 +109,7 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
    private boolean modified;
    private final ChunkTaskPriorityQueueSorter queueSorter;
    private final ProcessorHandle<ChunkTaskPriorityQueueSorter.Message<Runnable>> worldgenMailbox;
+   private final FeatureDecorationScheduler featureDecorationScheduler;
    private final ProcessorHandle<ChunkTaskPriorityQueueSorter.Message<Runnable>> mainThreadMailbox;
    private final ChunkProgressListener progressListener;
    private final ChunkStatusUpdateListener chunkStatusListener;
@@ -137,6 +138,7 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
       ProcessorMailbox<Runnable> processormailbox1 = ProcessorMailbox.create(p_143044_, "light");
       this.queueSorter = new ChunkTaskPriorityQueueSorter(ImmutableList.of(processormailbox, processorhandle, processormailbox1), p_143044_, Integer.MAX_VALUE);
       this.worldgenMailbox = this.queueSorter.getProcessor(processormailbox, false);
+      this.featureDecorationScheduler = new FeatureDecorationScheduler(p_143044_, 1);
       this.mainThreadMailbox = this.queueSorter.getProcessor(processorhandle, false);
       this.lightEngine = new ThreadedLevelLightEngine(p_143046_, this, this.level.dimensionType().hasSkyLight(), processormailbox1, this.queueSorter.getProcessor(processormailbox1, false));
       this.distanceManager = new ChunkMap.DistanceManager(p_143044_, p_143045_);
@@ -510,12 +512,21 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
       Executor executor = (p_143148_) -> {
          this.worldgenMailbox.tell(ChunkTaskPriorityQueueSorter.message(pChunkHolder, p_143148_));
       };
+      Executor executor1 = pChunkStatus == ChunkStatus.FEATURES ? (p_182040_) -> {
+         this.worldgenMailbox.tell(ChunkTaskPriorityQueueSorter.message(pChunkHolder, () -> {
+            this.featureDecorationScheduler.submit(chunkpos, p_182040_);
+         }));
+      } : executor;
       return completablefuture.thenComposeAsync((p_143083_) -> {
          return p_143083_.map((p_143089_) -> {
             try {
+               long i = Util.getNanos();
                CompletableFuture<Either<ChunkAccess, ChunkHolder.ChunkLoadingFailure>> completablefuture1 = pChunkStatus.generate(executor, this.level, this.generator, this.structureManager, this.lightEngine, (p_143113_) -> {
                   return this.protoChunkToFullChunk(pChunkHolder);
                }, p_143089_);
+               completablefuture1.thenRun(() -> {
+                  this.progressListener.onStatusTime(chunkpos, pChunkStatus, Util.getNanos() - i);
+               });
                this.progressListener.onStatusChange(chunkpos, pChunkStatus);
                return completablefuture1;
             } catch (Exception exception) {
@@ -531,7 +542,7 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
             this.releaseLightTicket(chunkpos);
             return CompletableFuture.completedFuture(Either.right(p_143074_));
          });
-      }, executor);
+      }, executor1);
    }
 
    protected void releaseLightTicket(ChunkPos p_140376_) {
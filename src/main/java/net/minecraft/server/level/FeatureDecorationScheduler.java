@@ -0,0 +1,104 @@
+package net.minecraft.server.level;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Queues;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import net.minecraft.world.level.ChunkPos;
+
+public class FeatureDecorationScheduler {
+   private final Executor executor;
+   private final int radius;
+   private final LongSet claimedChunks = new LongOpenHashSet();
+   private final Queue<FeatureDecorationScheduler.Task> pendingTasks = Queues.newArrayDeque();
+
+   public FeatureDecorationScheduler(Executor pExecutor, int pRadius) {
+      this.executor = pExecutor;
+      this.radius = pRadius;
+   }
+
+   public void submit(ChunkPos pPos, Runnable pTask) {
+      synchronized(this) {
+         this.pendingTasks.add(new FeatureDecorationScheduler.Task(pPos, pTask));
+      }
+
+      this.runPending();
+   }
+
+   private void runPending() {
+      List<FeatureDecorationScheduler.Task> list = Lists.newArrayList();
+      synchronized(this) {
+         LongSet longset = new LongOpenHashSet();
+         Iterator<FeatureDecorationScheduler.Task> iterator = this.pendingTasks.iterator();
+
+         while(iterator.hasNext()) {
+            FeatureDecorationScheduler.Task featuredecorationscheduler$task = iterator.next();
+            if (this.isFree(featuredecorationscheduler$task.pos, longset)) {
+               this.claim(featuredecorationscheduler$task.pos, this.claimedChunks);
+               iterator.remove();
+               list.add(featuredecorationscheduler$task);
+            } else {
+               this.claim(featuredecorationscheduler$task.pos, longset);
+            }
+         }
+      }
+
+      for(FeatureDecorationScheduler.Task featuredecorationscheduler$task1 : list) {
+         this.executor.execute(() -> {
+            try {
+               featuredecorationscheduler$task1.task.run();
+            } finally {
+               this.release(featuredecorationscheduler$task1.pos);
+               this.runPending();
+            }
+
+         });
+      }
+
+   }
+
+   private boolean isFree(ChunkPos pPos, LongSet pWaitingChunks) {
+      for(int i = -this.radius; i <= this.radius; ++i) {
+         for(int j = -this.radius; j <= this.radius; ++j) {
+            long k = ChunkPos.asLong(pPos.x + i, pPos.z + j);
+            if (this.claimedChunks.contains(k) || pWaitingChunks.contains(k)) {
+               return false;
+            }
+         }
+      }
+
+      return true;
+   }
+
+   private void claim(ChunkPos pPos, LongSet pChunks) {
+      for(int i = -this.radius; i <= this.radius; ++i) {
+         for(int j = -this.radius; j <= this.radius; ++j) {
+            pChunks.add(ChunkPos.asLong(pPos.x + i, pPos.z + j));
+         }
+      }
+
+   }
+
+   private synchronized void release(ChunkPos pPos) {
+      for(int i = -this.radius; i <= this.radius; ++i) {
+         for(int j = -this.radius; j <= this.radius; ++j) {
+            this.claimedChunks.remove(ChunkPos.asLong(pPos.x + i, pPos.z + j));
+         }
+      }
+
+   }
+
+   static class Task {
+      final ChunkPos pos;
+      final Runnable task;
+
+      Task(ChunkPos pPos, Runnable pTask) {
+         this.pos = pPos;
+         this.task = pTask;
+      }
+   }
+}
\ No newline at end of file
@@ -22,6 +22,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
@@ -68,13 +69,17 @@ import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.DifficultyInstance;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityActivationRange;
+import net.minecraft.world.entity.EntityMerger;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.LightningBolt;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.MobCategory;
 import net.minecraft.world.entity.ReputationEventHandler;
+import net.minecraft.world.entity.ai.navigation.PathCache;
 import net.minecraft.world.entity.ai.navigation.PathNavigation;
+import net.minecraft.world.entity.ai.sensing.SharedSensorQueries;
 import net.minecraft.world.entity.ai.village.ReputationEventType;
 import net.minecraft.world.entity.ai.village.poi.PoiManager;
 import net.minecraft.world.entity.ai.village.poi.PoiType;
@@ -92,6 +97,7 @@ import net.minecraft.world.level.BlockEventData;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.CustomSpawner;
 import net.minecraft.world.level.Explosion;
+import net.minecraft.world.level.ExplosionCache;
 import net.minecraft.world.level.ExplosionDamageCalculator;
 import net.minecraft.world.level.ForcedChunksSavedData;
 import net.minecraft.world.level.GameRules;
@@ -124,6 +130,7 @@ import net.minecraft.world.level.gameevent.vibrations.VibrationPath;
 import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.levelgen.feature.StructureFeature;
 import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.levelgen.structure.StructureLocator;
 import net.minecraft.world.level.levelgen.structure.StructureStart;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructureManager;
 import net.minecraft.world.level.material.Fluid;
@@ -173,6 +180,12 @@ public class ServerLevel extends Level implements WorldGenLevel {
    final Int2ObjectMap<EnderDragonPart> dragonParts = new Int2ObjectOpenHashMap<>();
    private final StructureFeatureManager structureFeatureManager;
    private final boolean tickTime;
+   private final SharedSensorQueries sharedSensorQueries = new SharedSensorQueries(this);
+   private final PathCache pathCache = new PathCache();
+   private final ExplosionCache explosionCache = new ExplosionCache();
+   private final EntityMerger entityMerger = new EntityMerger(this);
+   private final EntityActivationRange entityActivationRange = new EntityActivationRange(this);
+   private final StructureLocator structureLocator;
 
    public ServerLevel(MinecraftServer p_8571_, Executor p_8572_, LevelStorageSource.LevelStorageAccess p_8573_, ServerLevelData p_8574_, ResourceKey<Level> p_8575_, DimensionType p_8576_, ChunkProgressListener p_8577_, ChunkGenerator p_8578_, boolean p_8579_, long p_8580_, List<CustomSpawner> p_8581_, boolean p_8582_) {
       super(p_8574_, p_8575_, p_8576_, p_8571_::getProfiler, false, p_8579_, p_8580_);
@@ -201,6 +214,7 @@ public class ServerLevel extends Level implements WorldGenLevel {
       }
 
       this.structureFeatureManager = new StructureFeatureManager(this, p_8571_.getWorldData().worldGenSettings());
+      this.structureLocator = new StructureLocator(this);
       if (this.dimensionType().createDragonFight()) {
          this.dragonFight = new EndDragonFight(this, p_8571_.getWorldData().worldGenSettings().seed(), p_8571_.getWorldData().endDragonFightData());
       } else {
@@ -226,6 +240,26 @@ public class ServerLevel extends Level implements WorldGenLevel {
       return this.structureFeatureManager;
    }
 
+   public SharedSensorQueries getSharedSensorQueries() {
+      return this.sharedSensorQueries;
+   }
+
+   public PathCache getPathCache() {
+      return this.pathCache;
+   }
+
+   public ExplosionCache getExplosionCache() {
+      return this.explosionCache;
+   }
+
+   public EntityMerger getEntityMerger() {
+      return this.entityMerger;
+   }
+
+   public EntityActivationRange getEntityActivationRange() {
+      return this.entityActivationRange;
+   }
+
    public void tick(BooleanSupplier pHasTimeLeft) {
       ProfilerFiller profilerfiller = this.getProfiler();
       this.handlingTick = true;
@@ -356,6 +390,10 @@ public class ServerLevel extends Level implements WorldGenLevel {
             profilerfiller.pop();
          }
 
+         this.sharedSensorQueries.tick();
+         this.pathCache.tick(this.getGameTime());
+         this.explosionCache.invalidate();
+         this.entityActivationRange.tick();
          this.entityTickList.forEach((p_143266_) -> {
             if (!p_143266_.isRemoved()) {
                if (this.shouldDiscardEntity(p_143266_)) {
@@ -379,6 +417,9 @@ public class ServerLevel extends Level implements WorldGenLevel {
                }
             }
          });
+         profilerfiller.push("entityMerging");
+         this.entityMerger.tick();
+         profilerfiller.pop();
          profilerfiller.pop();
          this.tickBlockEntities();
       }
@@ -610,8 +651,14 @@ public class ServerLevel extends Level implements WorldGenLevel {
       this.getProfiler().push(() -> {
          return Registry.ENTITY_TYPE.getKey(p_8648_.getType()).toString();
       });
-      profilerfiller.incrementCounter("tickNonPassenger");
-      p_8648_.tick();
+      if (this.entityActivationRange.isActive(p_8648_)) {
+         profilerfiller.incrementCounter("tickNonPassenger");
+         p_8648_.tick();
+      } else {
+         profilerfiller.incrementCounter("inactiveTick");
+         p_8648_.inactiveTick();
+      }
+
       this.getProfiler().pop();
 
       for(Entity entity : p_8648_.getPassengers()) {
@@ -818,6 +865,8 @@ public class ServerLevel extends Level implements WorldGenLevel {
       VoxelShape voxelshape = pOldState.getCollisionShape(this, pPos);
       VoxelShape voxelshape1 = pNewState.getCollisionShape(this, pPos);
       if (Shapes.joinIsNotEmpty(voxelshape, voxelshape1, BooleanOp.NOT_SAME)) {
+         this.pathCache.invalidate();
+
          for(Mob mob : this.navigatingMobs) {
             PathNavigation pathnavigation = mob.getNavigation();
             if (!pathnavigation.hasDelayedRecomputation()) {
@@ -956,6 +1005,10 @@ public class ServerLevel extends Level implements WorldGenLevel {
       return !this.server.getWorldData().worldGenSettings().generateFeatures() ? null : this.getChunkSource().getGenerator().findNearestMapFeature(this, pStructure, pPos, pRadius, pSkipExistingChunks);
    }
 
+   public CompletableFuture<BlockPos> findNearestMapFeatureAsync(StructureFeature<?> pStructure, BlockPos pPos, int pRadius, boolean pSkipExistingChunks) {
+      return !this.server.getWorldData().worldGenSettings().generateFeatures() ? CompletableFuture.completedFuture((BlockPos)null) : this.structureLocator.findNearestMapFeature(pStructure, pPos, pRadius, pSkipExistingChunks);
+   }
+
    @Nullable
    public BlockPos findNearestBiome(Biome pBiome, BlockPos pPos, int pRadius, int pIncrement) {
       return this.getChunkSource().getGenerator().getBiomeSource().findBiomeHorizontal(pPos.getX(), pPos.getY(), pPos.getZ(), pRadius, pIncrement, (p_143279_) -> {
@@ -963,6 +1016,12 @@ public class ServerLevel extends Level implements WorldGenLevel {
       }, this.random, true);
    }
 
+   public CompletableFuture<BlockPos> findNearestBiomeAsync(Biome pBiome, BlockPos pPos, int pRadius, int pIncrement) {
+      return this.getChunkSource().getGenerator().getBiomeSource().findClosestBiomeHorizontal(pPos.getX(), pPos.getY(), pPos.getZ(), pRadius, pIncrement, (p_182037_) -> {
+         return p_182037_ == pBiome;
+      });
+   }
+
    public RecipeManager getRecipeManager() {
       return this.server.getRecipeManager();
    }
@@ -1049,6 +1108,7 @@ public class ServerLevel extends Level implements WorldGenLevel {
    }
 
    public void onBlockStateChange(BlockPos pPos, BlockState pBlockState, BlockState pNewState) {
+      this.explosionCache.invalidate();
       Optional<PoiType> optional = PoiType.forState(pBlockState);
       Optional<PoiType> optional1 = PoiType.forState(pNewState);
       if (!Objects.equals(optional, optional1)) {
@@ -1413,6 +1473,7 @@ public class ServerLevel extends Level implements WorldGenLevel {
 
       public void onTrackingStart(Entity p_143371_) {
          ServerLevel.this.getChunkSource().addEntity(p_143371_);
+         ServerLevel.this.sharedSensorQueries.onEntityAdded(p_143371_);
          if (p_143371_ instanceof ServerPlayer) {
             ServerLevel.this.players.add((ServerPlayer)p_143371_);
             ServerLevel.this.updateSleepingPlayerList();
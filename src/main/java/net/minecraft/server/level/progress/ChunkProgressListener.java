@@ -9,6 +9,8 @@ public interface ChunkProgressListener {
 
    void onStatusChange(ChunkPos pChunkPosition, @Nullable ChunkStatus pNewStatus);
 
+   void onStatusTime(ChunkPos pChunkPosition, ChunkStatus pStatus, long pNanos);
+
    void start();
 
    void stop();
@@ -15,6 +15,8 @@ public class LoggerChunkProgressListener implements ChunkProgressListener {
    private int count;
    private long startTime;
    private long nextTickTime = Long.MAX_VALUE;
+   private final long[] statusTimes = new long[ChunkStatus.getStatusList().size()];
+   private final int[] statusCounts = new int[ChunkStatus.getStatusList().size()];
 
    public LoggerChunkProgressListener(int p_9629_) {
       int i = p_9629_ * 2 + 1;
@@ -39,11 +41,26 @@ public class LoggerChunkProgressListener implements ChunkProgressListener {
 
    }
 
+   public synchronized void onStatusTime(ChunkPos pChunkPosition, ChunkStatus pStatus, long pNanos) {
+      this.statusTimes[pStatus.getIndex()] += pNanos;
+      ++this.statusCounts[pStatus.getIndex()];
+   }
+
    public void start() {
    }
 
    public void stop() {
       LOGGER.info("Time elapsed: {} ms", (long)(Util.getMillis() - this.startTime));
+      synchronized(this) {
+         for(ChunkStatus chunkstatus : ChunkStatus.getStatusList()) {
+            int i = this.statusCounts[chunkstatus.getIndex()];
+            if (i > 0) {
+               long j = this.statusTimes[chunkstatus.getIndex()];
+               LOGGER.debug("Chunk status {}: {} chunks, {} ms total, {} us average", chunkstatus.getName(), i, j / 1000000L, j / (long)i / 1000L);
+            }
+         }
+      }
+
       this.nextTickTime = Long.MAX_VALUE;
    }
 
@@ -33,6 +33,12 @@ public class ProcessorChunkProgressListener implements ChunkProgressListener {
       });
    }
 
+   public void onStatusTime(ChunkPos pChunkPosition, ChunkStatus pStatus, long pNanos) {
+      this.mailbox.tell(() -> {
+         this.delegate.onStatusTime(pChunkPosition, pStatus, pNanos);
+      });
+   }
+
    public void start() {
       this.mailbox.tell(this.delegate::start);
    }
@@ -41,6 +41,12 @@ public class StoringChunkProgressListener implements ChunkProgressListener {
       }
    }
 
+   public void onStatusTime(ChunkPos pChunkPosition, ChunkStatus pStatus, long pNanos) {
+      if (this.started) {
+         this.delegate.onStatusTime(pChunkPosition, pStatus, pNanos);
+      }
+   }
+
    public void start() {
       this.started = true;
       this.statuses.clear();
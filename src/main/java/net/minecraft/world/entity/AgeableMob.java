@@ -136,6 +136,21 @@ public abstract class AgeableMob extends PathfinderMob {
 
    }
 
+   public void inactiveTick() {
+      super.inactiveTick();
+      if (this.isAlive()) {
+         int i = this.getAge();
+         if (i < 0) {
+            ++i;
+            this.setAge(i);
+         } else if (i > 0) {
+            --i;
+            this.setAge(i);
+         }
+      }
+
+   }
+
    protected void ageBoundaryReached() {
    }
 
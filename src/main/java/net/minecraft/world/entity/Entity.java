@@ -173,6 +173,7 @@ public abstract class Entity implements Nameable, EntityAccess, CommandSource {
    public boolean noPhysics;
    protected final Random random = new Random();
    public int tickCount;
+   private long activeUntil;
    private int remainingFireTicks = -this.getFireImmuneTicks();
    protected boolean wasTouchingWater;
    protected Object2DoubleMap<Tag<Fluid>> fluidHeight = new Object2DoubleArrayMap<>(2);
@@ -211,6 +212,7 @@ public abstract class Entity implements Nameable, EntityAccess, CommandSource {
    private boolean hasGlowingTag;
    private final Set<String> tags = Sets.newHashSet();
    private final double[] pistonDeltas = new double[]{0.0D, 0.0D, 0.0D};
+   private final List<AABB> blockCollisionBoxes = Lists.newArrayList();
    private long pistonDeltasGameTime;
    private EntityDimensions dimensions;
    private float eyeHeight;
@@ -397,6 +399,17 @@ public abstract class Entity implements Nameable, EntityAccess, CommandSource {
       this.baseTick();
    }
 
+   public void inactiveTick() {
+   }
+
+   public void wakeUp(int pTicks) {
+      this.activeUntil = Math.max(this.activeUntil, this.level.getGameTime() + (long)pTicks);
+   }
+
+   public boolean isAwake(long pGameTime) {
+      return pGameTime < this.activeUntil;
+   }
+
    public void baseTick() {
       this.level.getProfiler().push("entityBaseTick");
       if (this.isPassenger() && this.getVehicle().isRemoved()) {
@@ -794,8 +807,12 @@ public abstract class Entity implements Nameable, EntityAccess, CommandSource {
       boolean flag1 = pVec.y == 0.0D;
       boolean flag2 = pVec.z == 0.0D;
       if ((!flag || !flag1) && (!flag || !flag2) && (!flag1 || !flag2)) {
-         RewindableStream<VoxelShape> rewindablestream = new RewindableStream<>(Stream.concat(pPotentialHits.getStream(), pLevel.getBlockCollisions(pEntity, pCollisionBox.expandTowards(pVec))));
-         return collideBoundingBoxLegacy(pVec, pCollisionBox, rewindablestream);
+         List<AABB> list = pEntity == null ? Lists.newArrayList() : pEntity.blockCollisionBoxes;
+         list.clear();
+         pLevel.collectBlockCollisions(pEntity, pCollisionBox.expandTowards(pVec), list);
+         Vec3 vec3 = collideBoundingBoxLegacy(pVec, pCollisionBox, list, pPotentialHits);
+         list.clear();
+         return vec3;
       } else {
          return collideBoundingBox(pVec, pCollisionBox, pLevel, pContext, pPotentialHits);
       }
@@ -834,6 +851,39 @@ public abstract class Entity implements Nameable, EntityAccess, CommandSource {
       return new Vec3(d0, d1, d2);
    }
 
+   public static Vec3 collideBoundingBoxLegacy(Vec3 pVec, AABB pCollisionBox, List<AABB> pBlockHits, RewindableStream<VoxelShape> pPotentialHits) {
+      double d0 = pVec.x;
+      double d1 = pVec.y;
+      double d2 = pVec.z;
+      if (d1 != 0.0D) {
+         d1 = Shapes.collide(Direction.Axis.Y, pCollisionBox, pPotentialHits.getStream(), Shapes.collide(Direction.Axis.Y, pCollisionBox, pBlockHits, d1));
+         if (d1 != 0.0D) {
+            pCollisionBox = pCollisionBox.move(0.0D, d1, 0.0D);
+         }
+      }
+
+      boolean flag = Math.abs(d0) < Math.abs(d2);
+      if (flag && d2 != 0.0D) {
+         d2 = Shapes.collide(Direction.Axis.Z, pCollisionBox, pPotentialHits.getStream(), Shapes.collide(Direction.Axis.Z, pCollisionBox, pBlockHits, d2));
+         if (d2 != 0.0D) {
+            pCollisionBox = pCollisionBox.move(0.0D, 0.0D, d2);
+         }
+      }
+
+      if (d0 != 0.0D) {
+         d0 = Shapes.collide(Direction.Axis.X, pCollisionBox, pPotentialHits.getStream(), Shapes.collide(Direction.Axis.X, pCollisionBox, pBlockHits, d0));
+         if (!flag && d0 != 0.0D) {
+            pCollisionBox = pCollisionBox.move(d0, 0.0D, 0.0D);
+         }
+      }
+
+      if (!flag && d2 != 0.0D) {
+         d2 = Shapes.collide(Direction.Axis.Z, pCollisionBox, pPotentialHits.getStream(), Shapes.collide(Direction.Axis.Z, pCollisionBox, pBlockHits, d2));
+      }
+
+      return new Vec3(d0, d1, d2);
+   }
+
    public static Vec3 collideBoundingBox(Vec3 pVec, AABB pCollisionBox, LevelReader pLevel, CollisionContext pSelectionContext, RewindableStream<VoxelShape> pPotentialHits) {
       double d0 = pVec.x;
       double d1 = pVec.y;
@@ -0,0 +1,79 @@
+package net.minecraft.world.entity;
+
+import com.google.common.collect.ImmutableMap;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.doubles.DoubleList;
+import java.util.Map;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.raid.Raider;
+
+public class EntityActivationRange {
+   private static final int INACTIVE_TICK_INTERVAL = 20;
+   private static final int SPAWN_ACTIVE_TICKS = 20;
+   private static final Map<EntityType<?>, Integer> TYPE_RANGES = ImmutableMap.of(EntityType.ENDER_DRAGON, 0, EntityType.WITHER, 0);
+   private static final MobCategory[] CATEGORIES = MobCategory.values();
+   private final ServerLevel level;
+   private final int[] categoryRanges = new int[CATEGORIES.length];
+   private final DoubleList playerPositions = new DoubleArrayList();
+   private long gameTime;
+
+   public EntityActivationRange(ServerLevel pLevel) {
+      this.level = pLevel;
+   }
+
+   public void tick() {
+      this.gameTime = this.level.getGameTime();
+
+      for(MobCategory mobcategory : CATEGORIES) {
+         this.categoryRanges[mobcategory.ordinal()] = this.level.getServer().getScaledActivationRange(mobcategory.getActivationRange());
+      }
+
+      this.playerPositions.clear();
+
+      for(ServerPlayer serverplayer : this.level.players()) {
+         if (!serverplayer.isSpectator()) {
+            this.playerPositions.add(serverplayer.getX());
+            this.playerPositions.add(serverplayer.getZ());
+         }
+      }
+
+   }
+
+   public boolean isActive(Entity pEntity) {
+      int i = this.getActivationRange(pEntity);
+      if (i > 0 && pEntity.tickCount > SPAWN_ACTIVE_TICKS && !pEntity.isAwake(this.gameTime) && !isExempt(pEntity)) {
+         if ((this.gameTime + (long)pEntity.getId()) % (long)INACTIVE_TICK_INTERVAL == 0L) {
+            return true;
+         } else {
+            for(int j = 0; j < this.playerPositions.size(); j += 2) {
+               if (Math.abs(pEntity.getX() - this.playerPositions.getDouble(j)) <= (double)i && Math.abs(pEntity.getZ() - this.playerPositions.getDouble(j + 1)) <= (double)i) {
+                  return true;
+               }
+            }
+
+            return false;
+         }
+      } else {
+         return true;
+      }
+   }
+
+   private int getActivationRange(Entity pEntity) {
+      Integer integer = TYPE_RANGES.get(pEntity.getType());
+      return integer != null ? this.level.getServer().getScaledActivationRange(integer) : this.categoryRanges[pEntity.getType().getCategory().ordinal()];
+   }
+
+   private static boolean isExempt(Entity pEntity) {
+      if (pEntity instanceof Mob) {
+         Mob mob = (Mob)pEntity;
+         if (!mob.isVehicle() && !mob.isPassenger() && !mob.isOnFire() && !mob.isLeashed() && mob.getTarget() == null) {
+            return mob instanceof Raider && ((Raider)mob).hasActiveRaid();
+         } else {
+            return true;
+         }
+      } else {
+         return true;
+      }
+   }
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+package net.minecraft.world.entity;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.phys.AABB;
+
+public class EntityMerger {
+   private static final double ITEM_CELL_MARGIN = 1.0D;
+   private static final double ORB_CELL_MARGIN = 2.0D;
+   private final ServerLevel level;
+   private final Set<ItemEntity> pendingItems = Sets.newLinkedHashSet();
+   private final Set<ExperienceOrb> pendingOrbs = Sets.newLinkedHashSet();
+   private final Long2ObjectMap<EntityMerger.Cell<ItemEntity>> itemCells = new Long2ObjectOpenHashMap<>();
+   private final Long2ObjectMap<EntityMerger.Cell<ExperienceOrb>> orbCells = new Long2ObjectOpenHashMap<>();
+
+   public EntityMerger(ServerLevel pLevel) {
+      this.level = pLevel;
+   }
+
+   public void requestMerge(ItemEntity pItem) {
+      this.pendingItems.add(pItem);
+   }
+
+   public void requestMerge(ExperienceOrb pOrb) {
+      this.pendingOrbs.add(pOrb);
+   }
+
+   public void tick() {
+      if (!this.pendingItems.isEmpty()) {
+         for(ItemEntity itementity : this.pendingItems) {
+            if (itementity.isMergable()) {
+               EntityMerger.Cell<ItemEntity> cell = this.getCell(this.itemCells, ItemEntity.class, itementity, ITEM_CELL_MARGIN);
+               List<ItemEntity> list = cell.getCandidates(itementity, itementity.getBoundingBox().inflate(0.5D, 0.0D, 0.5D), (p_182010_) -> {
+                  return p_182010_.isMergable() && p_182010_.getItem().is(itementity.getItem().getItem());
+               });
+
+               for(ItemEntity itementity1 : list) {
+                  if (itementity1.isMergable()) {
+                     itementity.tryToMerge(itementity1);
+                     if (itementity.isRemoved()) {
+                        break;
+                     }
+                  }
+               }
+            }
+         }
+
+         this.pendingItems.clear();
+         this.itemCells.clear();
+      }
+
+      if (!this.pendingOrbs.isEmpty()) {
+         for(ExperienceOrb experienceorb : this.pendingOrbs) {
+            if (!experienceorb.isRemoved()) {
+               EntityMerger.Cell<ExperienceOrb> cell1 = this.getCell(this.orbCells, ExperienceOrb.class, experienceorb, ORB_CELL_MARGIN);
+
+               for(ExperienceOrb experienceorb1 : cell1.getCandidates(experienceorb, experienceorb.getBoundingBox().inflate(0.5D), experienceorb::canMerge)) {
+                  experienceorb.merge(experienceorb1);
+               }
+            }
+         }
+
+         this.pendingOrbs.clear();
+         this.orbCells.clear();
+      }
+
+   }
+
+   private <T extends Entity> EntityMerger.Cell<T> getCell(Long2ObjectMap<EntityMerger.Cell<T>> pCells, Class<T> pEntityClass, T pEntity, double pMargin) {
+      int i = SectionPos.blockToSectionCoord(pEntity.getBlockX());
+      int j = SectionPos.blockToSectionCoord(pEntity.getBlockY());
+      int k = SectionPos.blockToSectionCoord(pEntity.getBlockZ());
+      return pCells.computeIfAbsent(SectionPos.asLong(i, j, k), (long p_182011_) -> {
+         AABB aabb = new AABB((double)SectionPos.sectionToBlockCoord(i), (double)SectionPos.sectionToBlockCoord(j), (double)SectionPos.sectionToBlockCoord(k), (double)SectionPos.sectionToBlockCoord(i + 1), (double)SectionPos.sectionToBlockCoord(j + 1), (double)SectionPos.sectionToBlockCoord(k + 1));
+         return new EntityMerger.Cell<>(this.level.getEntitiesOfClass(pEntityClass, aabb.inflate(pMargin), (p_182012_) -> {
+            return true;
+         }));
+      });
+   }
+
+   static class Cell<T extends Entity> {
+      private final List<T> entities;
+      private final Long2ObjectMap<IntList> byBlock = new Long2ObjectOpenHashMap<>();
+
+      Cell(List<T> pEntities) {
+         this.entities = pEntities;
+
+         for(int i = 0; i < pEntities.size(); ++i) {
+            T t = pEntities.get(i);
+            this.byBlock.computeIfAbsent(BlockPos.asLong(Mth.floor(t.getX()), Mth.floor(t.getY()), Mth.floor(t.getZ())), (long p_182013_) -> {
+               return new IntArrayList();
+            }).add(i);
+         }
+
+      }
+
+      List<T> getCandidates(T pEntity, AABB pArea, Predicate<? super T> pPredicate) {
+         IntList intlist = new IntArrayList();
+         int i = Mth.floor(pEntity.getX());
+         int j = Mth.floor(pEntity.getY());
+         int k = Mth.floor(pEntity.getZ());
+
+         for(int l = i - 1; l <= i + 1; ++l) {
+            for(int i1 = j - 1; i1 <= j + 1; ++i1) {
+               for(int j1 = k - 1; j1 <= k + 1; ++j1) {
+                  IntList intlist1 = this.byBlock.get(BlockPos.asLong(l, i1, j1));
+                  if (intlist1 != null) {
+                     intlist.addAll(intlist1);
+                  }
+               }
+            }
+         }
+
+         int[] aint = intlist.toIntArray();
+         Arrays.sort(aint);
+         List<T> list = Lists.newArrayList();
+
+         for(int k1 : aint) {
+            T t = this.entities.get(k1);
+            if (t != pEntity && t.getBoundingBox().intersects(pArea) && pPredicate.test(t)) {
+               list.add(t);
+            }
+         }
+
+         return list;
+      }
+   }
+}
\ No newline at end of file
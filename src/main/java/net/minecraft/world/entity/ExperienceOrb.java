@@ -110,9 +110,7 @@ public class ExperienceOrb extends Entity {
       }
 
       if (this.level instanceof ServerLevel) {
-         for(ExperienceOrb experienceorb : this.level.getEntities(EntityTypeTest.forClass(ExperienceOrb.class), this.getBoundingBox().inflate(0.5D), this::canMerge)) {
-            this.merge(experienceorb);
-         }
+         ((ServerLevel)this.level).getEntityMerger().requestMerge(this);
       }
 
    }
@@ -144,7 +142,7 @@ public class ExperienceOrb extends Entity {
       }
    }
 
-   private boolean canMerge(ExperienceOrb p_147087_) {
+   boolean canMerge(ExperienceOrb p_147087_) {
       return p_147087_ != this && canMerge(p_147087_, this.getId(), this.value);
    }
 
@@ -152,7 +150,7 @@ public class ExperienceOrb extends Entity {
       return !p_147089_.isRemoved() && (p_147089_.getId() - p_147090_) % 40 == 0 && p_147089_.value == p_147091_;
    }
 
-   private void merge(ExperienceOrb p_147101_) {
+   void merge(ExperienceOrb p_147101_) {
       this.count += p_147101_.count;
       this.age = Math.min(this.age, p_147101_.age);
       p_147101_.discard();
@@ -996,6 +996,7 @@ public abstract class LivingEntity extends Entity {
          }
 
          this.noActionTime = 0;
+         this.wakeUp(100);
          float f = pAmount;
          boolean flag = false;
          float f1 = 0.0F;
@@ -2166,6 +2167,23 @@ public abstract class LivingEntity extends Entity {
       return false;
    }
 
+   public void inactiveTick() {
+      if (this.hurtTime > 0) {
+         --this.hurtTime;
+      }
+
+      if (this.invulnerableTime > 0) {
+         --this.invulnerableTime;
+      }
+
+      if (!this.onGround && this.fallDistance > 0.0F && !this.isNoGravity() && !this.isInWater() && !this.isInLava()) {
+         this.setDeltaMovement(this.getDeltaMovement().add(0.0D, -0.08D, 0.0D));
+         this.move(MoverType.SELF, this.getDeltaMovement());
+         this.setDeltaMovement(this.getDeltaMovement().multiply(0.91D, (double)0.98F, 0.91D));
+      }
+
+   }
+
    public void tick() {
       super.tick();
       this.updatingUsingItem();
@@ -153,6 +153,10 @@ public abstract class Mob extends LivingEntity {
       return f == null ? pNodeType.getMalus() : f;
    }
 
+   public Map<BlockPathTypes, Float> getPathfindingMaluses() {
+      return this.getVehicle() instanceof Mob && ((Mob)this.getVehicle()).shouldPassengersInheritMalus() ? ((Mob)this.getVehicle()).pathfindingMalus : this.pathfindingMalus;
+   }
+
    public void setPathfindingMalus(BlockPathTypes pNodeType, float pPriority) {
       this.pathfindingMalus.put(pNodeType, pPriority);
    }
@@ -664,6 +668,11 @@ public abstract class Mob extends LivingEntity {
       }
    }
 
+   public void inactiveTick() {
+      super.inactiveTick();
+      ++this.noActionTime;
+   }
+
    protected final void serverAiStep() {
       ++this.noActionTime;
       this.level.getProfiler().push("sensing");
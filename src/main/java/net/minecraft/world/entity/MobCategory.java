@@ -7,13 +7,13 @@ import java.util.stream.Collectors;
 import net.minecraft.util.StringRepresentable;
 
 public enum MobCategory implements StringRepresentable {
-   MONSTER("monster", 70, false, false, 128),
-   CREATURE("creature", 10, true, true, 128),
-   AMBIENT("ambient", 15, true, false, 128),
-   UNDERGROUND_WATER_CREATURE("underground_water_creature", 5, true, false, 128),
-   WATER_CREATURE("water_creature", 5, true, false, 128),
-   WATER_AMBIENT("water_ambient", 20, true, false, 64),
-   MISC("misc", -1, true, true, 128);
+   MONSTER("monster", 70, false, false, 128, 32),
+   CREATURE("creature", 10, true, true, 128, 32),
+   AMBIENT("ambient", 15, true, false, 128, 16),
+   UNDERGROUND_WATER_CREATURE("underground_water_creature", 5, true, false, 128, 16),
+   WATER_CREATURE("water_creature", 5, true, false, 128, 16),
+   WATER_AMBIENT("water_ambient", 20, true, false, 64, 16),
+   MISC("misc", -1, true, true, 128, 0);
 
    public static final Codec<MobCategory> CODEC = StringRepresentable.fromEnum(MobCategory::values, MobCategory::byName);
    private static final Map<String, MobCategory> BY_NAME = Arrays.stream(values()).collect(Collectors.toMap(MobCategory::getName, (p_21604_) -> {
@@ -25,13 +25,15 @@ public enum MobCategory implements StringRepresentable {
    private final String name;
    private final int noDespawnDistance = 32;
    private final int despawnDistance;
+   private final int activationRange;
 
-   private MobCategory(String p_21597_, int p_21598_, boolean p_21599_, boolean p_21600_, int p_21601_) {
+   private MobCategory(String p_21597_, int p_21598_, boolean p_21599_, boolean p_21600_, int p_21601_, int pActivationRange) {
       this.name = p_21597_;
       this.max = p_21598_;
       this.isFriendly = p_21599_;
       this.isPersistent = p_21600_;
       this.despawnDistance = p_21601_;
+      this.activationRange = pActivationRange;
    }
 
    public String getName() {
@@ -65,4 +67,8 @@ public enum MobCategory implements StringRepresentable {
    public int getNoDespawnDistance() {
       return 32;
    }
+
+   public int getActivationRange() {
+      return this.activationRange;
+   }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package net.minecraft.world.entity.ai;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.common.collect.ImmutableList.Builder;
@@ -14,6 +15,9 @@ import com.mojang.serialization.DynamicOps;
 import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.MapLike;
 import com.mojang.serialization.RecordBuilder;
+import it.unimi.dsi.fastutil.ints.IntArraySet;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -45,7 +49,10 @@ public class Brain<E extends LivingEntity> {
    static final Logger LOGGER = LogManager.getLogger();
    private final Supplier<Codec<Brain<E>>> codec;
    private static final int SCHEDULE_UPDATE_DELAY = 20;
-   private final Map<MemoryModuleType<?>, Optional<? extends ExpirableValue<?>>> memories = Maps.newHashMap();
+   private final MemoryModuleType<?>[] memoryTypes;
+   private final ExpirableValue<?>[] memoryValues;
+   private final Optional<?>[] memoryOptionals;
+   private final IntSet expiringMemories = new IntArraySet();
    private final Map<SensorType<? extends Sensor<? super E>>, Sensor<? super E>> sensors = Maps.newLinkedHashMap();
    private final Map<Integer, Map<Activity, Set<Behavior<? super E>>>> availableBehaviorsByPriority = Maps.newTreeMap();
    private Schedule schedule = Schedule.EMPTY;
@@ -109,17 +116,33 @@ public class Brain<E extends LivingEntity> {
    public Brain(Collection<? extends MemoryModuleType<?>> pMemoryModuleTypes, Collection<? extends SensorType<? extends Sensor<? super E>>> pSensorTypes, ImmutableList<Brain.MemoryValue<?>> pMemoryValues, Supplier<Codec<Brain<E>>> pCodec) {
       this.codec = pCodec;
 
-      for(MemoryModuleType<?> memorymoduletype : pMemoryModuleTypes) {
-         this.memories.put(memorymoduletype, Optional.empty());
-      }
-
       for(SensorType<? extends Sensor<? super E>> sensortype : pSensorTypes) {
          this.sensors.put(sensortype, sensortype.create());
       }
 
+      int i = 0;
+
+      for(MemoryModuleType<?> memorymoduletype : pMemoryModuleTypes) {
+         i = Math.max(i, memorymoduletype.getId() + 1);
+      }
+
       for(Sensor<? super E> sensor : this.sensors.values()) {
          for(MemoryModuleType<?> memorymoduletype1 : sensor.requires()) {
-            this.memories.put(memorymoduletype1, Optional.empty());
+            i = Math.max(i, memorymoduletype1.getId() + 1);
+         }
+      }
+
+      this.memoryTypes = new MemoryModuleType<?>[i];
+      this.memoryValues = new ExpirableValue<?>[i];
+      this.memoryOptionals = new Optional<?>[i];
+
+      for(MemoryModuleType<?> memorymoduletype2 : pMemoryModuleTypes) {
+         this.memoryTypes[memorymoduletype2.getId()] = memorymoduletype2;
+      }
+
+      for(Sensor<? super E> sensor1 : this.sensors.values()) {
+         for(MemoryModuleType<?> memorymoduletype3 : sensor1.requires()) {
+            this.memoryTypes[memorymoduletype3.getId()] = memorymoduletype3;
          }
       }
 
@@ -134,69 +157,115 @@ public class Brain<E extends LivingEntity> {
    }
 
    Stream<Brain.MemoryValue<?>> memories() {
-      return this.memories.entrySet().stream().map((p_21929_) -> {
-         return Brain.MemoryValue.createUnchecked(p_21929_.getKey(), p_21929_.getValue());
-      });
+      List<Brain.MemoryValue<?>> list = Lists.newArrayList();
+
+      for(int i = 0; i < this.memoryTypes.length; ++i) {
+         if (this.memoryTypes[i] != null) {
+            list.add(Brain.MemoryValue.createUnchecked(this.memoryTypes[i], Optional.ofNullable(this.memoryValues[i])));
+         }
+      }
+
+      return list.stream();
+   }
+
+   private boolean isRegistered(int pId) {
+      return pId < this.memoryTypes.length && this.memoryTypes[pId] != null;
    }
 
    public boolean hasMemoryValue(MemoryModuleType<?> pType) {
-      return this.checkMemory(pType, MemoryStatus.VALUE_PRESENT);
+      int i = pType.getId();
+      return this.isRegistered(i) && this.memoryValues[i] != null;
    }
 
    public <U> void eraseMemory(MemoryModuleType<U> pType) {
-      this.setMemory(pType, Optional.empty());
+      this.setMemoryValue(pType, null);
    }
 
    public <U> void setMemory(MemoryModuleType<U> pMemoryType, @Nullable U pMemory) {
-      this.setMemory(pMemoryType, Optional.ofNullable(pMemory));
+      this.setMemoryValue(pMemoryType, pMemory == null ? null : ExpirableValue.of(pMemory));
    }
 
    public <U> void setMemoryWithExpiry(MemoryModuleType<U> pMemoryType, U pMemory, long pTimesToLive) {
-      this.setMemoryInternal(pMemoryType, Optional.of(ExpirableValue.of(pMemory, pTimesToLive)));
+      this.setMemoryValue(pMemoryType, ExpirableValue.of(pMemory, pTimesToLive));
    }
 
    public <U> void setMemory(MemoryModuleType<U> pMemoryType, Optional<? extends U> pMemory) {
-      this.setMemoryInternal(pMemoryType, pMemory.map(ExpirableValue::of));
+      this.setMemoryValue(pMemoryType, pMemory.isPresent() ? ExpirableValue.of(pMemory.get()) : null);
    }
 
    <U> void setMemoryInternal(MemoryModuleType<U> pMemoryType, Optional<? extends ExpirableValue<?>> pMemory) {
-      if (this.memories.containsKey(pMemoryType)) {
-         if (pMemory.isPresent() && this.isEmptyCollection(pMemory.get().getValue())) {
-            this.eraseMemory(pMemoryType);
+      this.setMemoryValue(pMemoryType, pMemory.orElse(null));
+   }
+
+   private <U> void setMemoryValue(MemoryModuleType<U> pMemoryType, @Nullable ExpirableValue<?> pMemory) {
+      int i = pMemoryType.getId();
+      if (this.isRegistered(i)) {
+         if (pMemory != null && this.isEmptyCollection(pMemory.getValue())) {
+            pMemory = null;
+         }
+
+         this.memoryValues[i] = pMemory;
+         this.memoryOptionals[i] = null;
+         if (pMemory != null && pMemory.canExpire()) {
+            this.expiringMemories.add(i);
          } else {
-            this.memories.put(pMemoryType, pMemory);
+            this.expiringMemories.remove(i);
          }
       }
 
    }
 
    public <U> Optional<U> getMemory(MemoryModuleType<U> pType) {
-      return (Optional<U>)this.memories.get(pType).map(ExpirableValue::getValue);
+      int i = pType.getId();
+      if (this.isRegistered(i) && this.memoryValues[i] != null) {
+         Optional<?> optional = this.memoryOptionals[i];
+         if (optional == null) {
+            optional = Optional.ofNullable(this.memoryValues[i].getValue());
+            this.memoryOptionals[i] = optional;
+         }
+
+         return (Optional<U>)optional;
+      } else {
+         return Optional.empty();
+      }
    }
 
    public <U> long getTimeUntilExpiry(MemoryModuleType<U> pMemoryType) {
-      Optional<? extends ExpirableValue<?>> optional = this.memories.get(pMemoryType);
-      return optional.map(ExpirableValue::getTimeToLive).orElse(0L);
+      int i = pMemoryType.getId();
+      return this.isRegistered(i) && this.memoryValues[i] != null ? this.memoryValues[i].getTimeToLive() : 0L;
    }
 
    @Deprecated
    @VisibleForDebug
    public Map<MemoryModuleType<?>, Optional<? extends ExpirableValue<?>>> getMemories() {
-      return this.memories;
+      Map<MemoryModuleType<?>, Optional<? extends ExpirableValue<?>>> map = Maps.newLinkedHashMap();
+
+      for(int i = 0; i < this.memoryTypes.length; ++i) {
+         if (this.memoryTypes[i] != null) {
+            map.put(this.memoryTypes[i], Optional.ofNullable(this.memoryValues[i]));
+         }
+      }
+
+      return map;
    }
 
    public <U> boolean isMemoryValue(MemoryModuleType<U> pMemoryType, U pMemory) {
-      return !this.hasMemoryValue(pMemoryType) ? false : this.getMemory(pMemoryType).filter((p_21922_) -> {
-         return p_21922_.equals(pMemory);
-      }).isPresent();
+      int i = pMemoryType.getId();
+      if (this.isRegistered(i) && this.memoryValues[i] != null) {
+         Object object = this.memoryValues[i].getValue();
+         return object != null && object.equals(pMemory);
+      } else {
+         return false;
+      }
    }
 
    public boolean checkMemory(MemoryModuleType<?> pMemoryType, MemoryStatus pMemoryStatus) {
-      Optional<? extends ExpirableValue<?>> optional = this.memories.get(pMemoryType);
-      if (optional == null) {
+      int i = pMemoryType.getId();
+      if (!this.isRegistered(i)) {
          return false;
       } else {
-         return pMemoryStatus == MemoryStatus.REGISTERED || pMemoryStatus == MemoryStatus.VALUE_PRESENT && optional.isPresent() || pMemoryStatus == MemoryStatus.VALUE_ABSENT && !optional.isPresent();
+         boolean flag = this.memoryValues[i] != null;
+         return pMemoryStatus == MemoryStatus.REGISTERED || pMemoryStatus == MemoryStatus.VALUE_PRESENT && flag || pMemoryStatus == MemoryStatus.VALUE_ABSENT && !flag;
       }
    }
 
@@ -351,12 +420,23 @@ public class Brain<E extends LivingEntity> {
    }
 
    public Brain<E> copyWithoutBehaviors() {
-      Brain<E> brain = new Brain<>(this.memories.keySet(), this.sensors.keySet(), ImmutableList.of(), this.codec);
+      List<MemoryModuleType<?>> list = Lists.newArrayList();
+
+      for(MemoryModuleType<?> memorymoduletype : this.memoryTypes) {
+         if (memorymoduletype != null) {
+            list.add(memorymoduletype);
+         }
+      }
+
+      Brain<E> brain = new Brain<>(list, this.sensors.keySet(), ImmutableList.of(), this.codec);
 
-      for(Entry<MemoryModuleType<?>, Optional<? extends ExpirableValue<?>>> entry : this.memories.entrySet()) {
-         MemoryModuleType<?> memorymoduletype = entry.getKey();
-         if (entry.getValue().isPresent()) {
-            brain.memories.put(memorymoduletype, entry.getValue());
+      for(int i = 0; i < this.memoryValues.length; ++i) {
+         ExpirableValue<?> expirablevalue = this.memoryValues[i];
+         if (expirablevalue != null) {
+            brain.memoryValues[i] = expirablevalue;
+            if (expirablevalue.canExpire()) {
+               brain.expiringMemories.add(i);
+            }
          }
       }
 
@@ -378,13 +458,16 @@ public class Brain<E extends LivingEntity> {
    }
 
    private void forgetOutdatedMemories() {
-      for(Entry<MemoryModuleType<?>, Optional<? extends ExpirableValue<?>>> entry : this.memories.entrySet()) {
-         if (entry.getValue().isPresent()) {
-            ExpirableValue<?> expirablevalue = entry.getValue().get();
-            expirablevalue.tick();
-            if (expirablevalue.hasExpired()) {
-               this.eraseMemory(entry.getKey());
-            }
+      IntIterator intiterator = this.expiringMemories.iterator();
+
+      while(intiterator.hasNext()) {
+         int i = intiterator.nextInt();
+         ExpirableValue<?> expirablevalue = this.memoryValues[i];
+         expirablevalue.tick();
+         if (expirablevalue.hasExpired()) {
+            intiterator.remove();
+            this.memoryValues[i] = null;
+            this.memoryOptionals[i] = null;
          }
       }
 
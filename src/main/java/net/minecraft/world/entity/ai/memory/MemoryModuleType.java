@@ -94,10 +94,17 @@ public class MemoryModuleType<U> {
    public static final MemoryModuleType<Boolean> ATE_RECENTLY = register("ate_recently");
    public static final MemoryModuleType<BlockPos> NEAREST_REPELLENT = register("nearest_repellent");
    public static final MemoryModuleType<Boolean> PACIFIED = register("pacified");
+   private static int nextId;
    private final Optional<Codec<ExpirableValue<U>>> codec;
+   private final int id;
 
    private MemoryModuleType(Optional<Codec<U>> pOptionalCodec) {
       this.codec = pOptionalCodec.map(ExpirableValue::codec);
+      this.id = nextId++;
+   }
+
+   public int getId() {
+      return this.id;
    }
 
    public String toString() {
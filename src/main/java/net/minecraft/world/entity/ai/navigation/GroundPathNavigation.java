@@ -28,6 +28,10 @@ public class GroundPathNavigation extends PathNavigation {
       return new PathFinder(this.nodeEvaluator, p_26453_);
    }
 
+   protected boolean canComputePathAsync() {
+      return true;
+   }
+
    protected boolean canUpdatePath() {
       return this.mob.isOnGround() || this.isInLiquid() || this.mob.isPassenger();
    }
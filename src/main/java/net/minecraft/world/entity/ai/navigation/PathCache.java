@@ -0,0 +1,132 @@
+package net.minecraft.world.entity.ai.navigation;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Nullable;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.pathfinder.BlockPathTypes;
+import net.minecraft.world.level.pathfinder.NodeEvaluator;
+import net.minecraft.world.level.pathfinder.Path;
+import net.minecraft.world.phys.AABB;
+
+public class PathCache {
+   private static final int MAX_SEARCHES_PER_TICK = 128;
+   private static final int MAX_CACHED_PATHS = 512;
+   private static final long PATH_LIFETIME = 20L;
+   private final Map<PathCache.Key, PathCache.Entry> paths = Maps.newHashMap();
+   private int searchesThisTick;
+
+   public void tick(long pGameTime) {
+      this.searchesThisTick = 0;
+      Iterator<PathCache.Entry> iterator = this.paths.values().iterator();
+
+      while(iterator.hasNext()) {
+         if (iterator.next().expiresAt <= pGameTime) {
+            iterator.remove();
+         }
+      }
+
+   }
+
+   public void invalidate() {
+      this.paths.clear();
+   }
+
+   public boolean hasSearchBudget() {
+      return this.searchesThisTick < MAX_SEARCHES_PER_TICK;
+   }
+
+   public boolean tryStartSearch() {
+      if (this.searchesThisTick >= MAX_SEARCHES_PER_TICK) {
+         return false;
+      } else {
+         ++this.searchesThisTick;
+         return true;
+      }
+   }
+
+   @Nullable
+   public Path get(PathCache.Key pKey, long pGameTime) {
+      PathCache.Entry pathcache$entry = this.paths.get(pKey);
+      return pathcache$entry != null && pathcache$entry.expiresAt > pGameTime ? pathcache$entry.path.copy() : null;
+   }
+
+   public void put(PathCache.Key pKey, Path pPath, long pGameTime) {
+      if (this.paths.size() < MAX_CACHED_PATHS || this.paths.containsKey(pKey)) {
+         this.paths.put(pKey, new PathCache.Entry(pPath.copy(), pGameTime + PATH_LIFETIME));
+      }
+
+   }
+
+   static class Entry {
+      final Path path;
+      final long expiresAt;
+
+      Entry(Path pPath, long pExpiresAt) {
+         this.path = pPath;
+         this.expiresAt = pExpiresAt;
+      }
+   }
+
+   public static class Key {
+      private final EntityType<?> type;
+      private final long start;
+      private final long target;
+      private final int regionOffset;
+      private final int accuracy;
+      private final float maxRange;
+      private final int entityWidth;
+      private final int entityHeight;
+      private final boolean canPassDoors;
+      private final boolean canOpenDoors;
+      private final boolean canFloat;
+      private final Map<BlockPathTypes, Float> malus;
+      private final int startFloorY;
+      private final boolean onGround;
+      private final boolean inWater;
+      private final long boxMin;
+      private final long boxMax;
+
+      public Key(Mob pMob, NodeEvaluator pNodeEvaluator, BlockPos pStart, BlockPos pTarget, int pRegionOffset, int pAccuracy, float pMaxRange) {
+         this.type = pMob.getType();
+         this.start = pStart.asLong();
+         this.target = pTarget.asLong();
+         this.regionOffset = pRegionOffset;
+         this.accuracy = pAccuracy;
+         this.maxRange = pMaxRange;
+         this.entityWidth = Mth.floor(pMob.getBbWidth() + 1.0F);
+         this.entityHeight = Mth.floor(pMob.getBbHeight() + 1.0F);
+         this.canPassDoors = pNodeEvaluator.canPassDoors();
+         this.canOpenDoors = pNodeEvaluator.canOpenDoors();
+         this.canFloat = pNodeEvaluator.canFloat();
+         this.malus = ImmutableMap.copyOf(pMob.getPathfindingMaluses());
+         this.startFloorY = Mth.floor(pMob.getY() + 0.5D);
+         this.onGround = pMob.isOnGround();
+         this.inWater = pMob.isInWater();
+         AABB aabb = pMob.getBoundingBox();
+         this.boxMin = BlockPos.asLong(Mth.floor(aabb.minX), 0, Mth.floor(aabb.minZ));
+         this.boxMax = BlockPos.asLong(Mth.floor(aabb.maxX), 0, Mth.floor(aabb.maxZ));
+      }
+
+      public boolean equals(Object pOther) {
+         if (this == pOther) {
+            return true;
+         } else if (!(pOther instanceof PathCache.Key)) {
+            return false;
+         } else {
+            PathCache.Key pathcache$key = (PathCache.Key)pOther;
+            return this.type == pathcache$key.type && this.start == pathcache$key.start && this.target == pathcache$key.target && this.regionOffset == pathcache$key.regionOffset && this.accuracy == pathcache$key.accuracy && this.maxRange == pathcache$key.maxRange && this.entityWidth == pathcache$key.entityWidth && this.entityHeight == pathcache$key.entityHeight && this.canPassDoors == pathcache$key.canPassDoors && this.canOpenDoors == pathcache$key.canOpenDoors && this.canFloat == pathcache$key.canFloat && this.startFloorY == pathcache$key.startFloorY && this.onGround == pathcache$key.onGround && this.inWater == pathcache$key.inWater && this.boxMin == pathcache$key.boxMin && this.boxMax == pathcache$key.boxMax && this.malus.equals(pathcache$key.malus);
+         }
+      }
+
+      public int hashCode() {
+         return Objects.hash(this.type, this.start, this.target, this.regionOffset, this.accuracy, this.maxRange, this.entityWidth, this.entityHeight, this.canPassDoors, this.canOpenDoors, this.canFloat, this.malus, this.startFloorY, this.onGround, this.inWater, this.boxMin, this.boxMax);
+      }
+   }
+}
\ No newline at end of file
@@ -2,6 +2,7 @@ package net.minecraft.world.entity.ai.navigation;
 
 import com.google.common.collect.ImmutableSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
@@ -9,6 +10,7 @@ import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Vec3i;
 import net.minecraft.network.protocol.game.DebugPackets;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
@@ -17,6 +19,7 @@ import net.minecraft.world.entity.ai.attributes.Attributes;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.PathNavigationRegion;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.level.pathfinder.Node;
 import net.minecraft.world.level.pathfinder.NodeEvaluator;
 import net.minecraft.world.level.pathfinder.Path;
@@ -26,6 +29,7 @@ import net.minecraft.world.phys.Vec3;
 
 public abstract class PathNavigation {
    private static final int MAX_TIME_RECOMPUTE = 20;
+   private static final double MAX_ASYNC_RETARGET_DISTANCE = 16.0D;
    protected final Mob mob;
    protected final Level level;
    @Nullable
@@ -46,12 +50,28 @@ public abstract class PathNavigation {
    private int reachRange;
    private float maxVisitedNodesMultiplier = 1.0F;
    private final PathFinder pathFinder;
+   private final int maxVisitedNodes;
+   @Nullable
+   private PathFinder asyncPathFinder;
+   @Nullable
+   private NodeEvaluator asyncNodeEvaluator;
    private boolean isStuck;
+   @Nullable
+   private CompletableFuture<Path> pendingPath;
+   @Nullable
+   private BlockPos pendingTarget;
+   @Nullable
+   private PathCache.Key pendingPathKey;
+   @Nullable
+   private BoundingBox pendingPathBounds;
+   private int pendingReachRange;
+   private boolean pendingPathStale;
 
    public PathNavigation(Mob p_26515_, Level p_26516_) {
       this.mob = p_26515_;
       this.level = p_26516_;
       int i = Mth.floor(p_26515_.getAttributeValue(Attributes.FOLLOW_RANGE) * 16.0D);
+      this.maxVisitedNodes = i;
       this.pathFinder = this.createPathFinder(i);
    }
 
@@ -79,7 +99,9 @@ public abstract class PathNavigation {
 
    public void recomputePath() {
       if (this.level.getGameTime() - this.timeLastRecompute > 20L) {
-         if (this.targetPos != null) {
+         if (this.level instanceof ServerLevel && !((ServerLevel)this.level).getPathCache().hasSearchBudget()) {
+            this.hasDelayedRecomputation = true;
+         } else if (this.targetPos != null) {
             this.path = null;
             this.path = this.createPath(this.targetPos, this.reachRange);
             this.timeLastRecompute = this.level.getGameTime();
@@ -137,12 +159,56 @@ public abstract class PathNavigation {
       } else if (this.path != null && !this.path.isDone() && p_148223_.contains(this.targetPos)) {
          return this.path;
       } else {
-         this.level.getProfiler().push("pathfind");
          BlockPos blockpos = p_148225_ ? this.mob.blockPosition().above() : this.mob.blockPosition();
-         int i = (int)(p_148227_ + (float)p_148224_);
-         PathNavigationRegion pathnavigationregion = new PathNavigationRegion(this.level, blockpos.offset(-i, -i, -i), blockpos.offset(i, i, i));
-         Path path = this.pathFinder.findPath(pathnavigationregion, this.mob, p_148223_, p_148227_, p_148226_, this.maxVisitedNodesMultiplier);
-         this.level.getProfiler().pop();
+         PathCache pathcache = this.level instanceof ServerLevel ? ((ServerLevel)this.level).getPathCache() : null;
+         PathCache.Key pathcache$key = pathcache != null && p_148223_.size() == 1 && this.maxVisitedNodesMultiplier == 1.0F ? new PathCache.Key(this.mob, this.nodeEvaluator, blockpos, p_148223_.iterator().next(), p_148224_, p_148226_, p_148227_) : null;
+         Path path = pathcache$key != null ? pathcache.get(pathcache$key, this.level.getGameTime()) : null;
+         BlockPos blockpos1 = p_148223_.size() == 1 ? p_148223_.iterator().next() : null;
+         if (path == null && this.pendingPath != null && !this.pendingPathStale && blockpos1 != null && blockpos1.equals(this.pendingTarget) && this.pendingReachRange == p_148226_) {
+            if (!this.pendingPath.isDone()) {
+               return null;
+            }
+
+            path = this.pendingPath.exceptionally((p_182012_) -> {
+               return null;
+            }).join();
+            PathCache.Key pathcache$key1 = this.pendingPathKey;
+            this.clearPendingPath();
+            if (path != null) {
+               pathcache.put(pathcache$key1, path, this.level.getGameTime());
+            }
+         } else if (path == null) {
+            if (pathcache != null && !pathcache.tryStartSearch() && this.path != null && !this.path.isDone()) {
+               return null;
+            }
+
+            if (this.pendingPath != null) {
+               this.pendingPathStale = true;
+            }
+
+            int i = (int)(p_148227_ + (float)p_148224_);
+            if (pathcache$key != null && (this.pendingPath == null || this.pendingPath.isDone()) && this.canComputePathAsync() && this.path != null && !this.path.isDone() && this.targetPos != null && blockpos1.closerThan(this.targetPos, MAX_ASYNC_RETARGET_DISTANCE)) {
+               PathNavigationRegion pathnavigationregion1 = new PathNavigationRegion(this.level, blockpos.offset(-i, -i, -i), blockpos.offset(i, i, i), true);
+               if (pathnavigationregion1.canSearchAsync()) {
+                  this.pendingPath = this.getAsyncPathFinder().findPathAsync(pathnavigationregion1, this.mob, p_148223_, p_148227_, p_148226_, this.maxVisitedNodesMultiplier, Util.backgroundExecutor());
+                  this.pendingTarget = blockpos1;
+                  this.pendingPathKey = pathcache$key;
+                  this.pendingPathBounds = new BoundingBox(blockpos.getX() - i, blockpos.getY() - i, blockpos.getZ() - i, blockpos.getX() + i, blockpos.getY() + i, blockpos.getZ() + i);
+                  this.pendingReachRange = p_148226_;
+                  this.pendingPathStale = false;
+                  return null;
+               }
+            }
+
+            this.level.getProfiler().push("pathfind");
+            PathNavigationRegion pathnavigationregion = new PathNavigationRegion(this.level, blockpos.offset(-i, -i, -i), blockpos.offset(i, i, i));
+            path = this.pathFinder.findPath(pathnavigationregion, this.mob, p_148223_, p_148227_, p_148226_, this.maxVisitedNodesMultiplier);
+            this.level.getProfiler().pop();
+            if (path != null && pathcache$key != null) {
+               pathcache.put(pathcache$key, path, this.level.getGameTime());
+            }
+         }
+
          if (path != null && path.getTarget() != null) {
             this.targetPos = path.getTarget();
             this.reachRange = p_148226_;
@@ -193,6 +259,32 @@ public abstract class PathNavigation {
       return this.path;
    }
 
+   protected boolean canComputePathAsync() {
+      return false;
+   }
+
+   private PathFinder getAsyncPathFinder() {
+      if (this.asyncPathFinder == null) {
+         NodeEvaluator nodeevaluator = this.nodeEvaluator;
+         this.asyncPathFinder = this.createPathFinder(this.maxVisitedNodes);
+         this.asyncNodeEvaluator = this.nodeEvaluator;
+         this.nodeEvaluator = nodeevaluator;
+      }
+
+      this.asyncNodeEvaluator.setCanPassDoors(this.nodeEvaluator.canPassDoors());
+      this.asyncNodeEvaluator.setCanOpenDoors(this.nodeEvaluator.canOpenDoors());
+      this.asyncNodeEvaluator.setCanFloat(this.nodeEvaluator.canFloat());
+      return this.asyncPathFinder;
+   }
+
+   private void clearPendingPath() {
+      this.pendingPath = null;
+      this.pendingTarget = null;
+      this.pendingPathKey = null;
+      this.pendingPathBounds = null;
+      this.pendingPathStale = false;
+   }
+
    public void tick() {
       ++this.tick;
       if (this.hasDelayedRecomputation) {
@@ -351,6 +443,10 @@ public abstract class PathNavigation {
    }
 
    public void recomputePath(BlockPos pPos) {
+      if (this.pendingPath != null && this.pendingPathBounds != null && this.pendingPathBounds.isInside(pPos)) {
+         this.pendingPathStale = true;
+      }
+
       if (this.path != null && !this.path.isDone() && this.path.getNodeCount() != 0) {
          Node node = this.path.getEndNode();
          Vec3 vec3 = new Vec3(((double)node.x + this.mob.getX()) / 2.0D, ((double)node.y + this.mob.getY()) / 2.0D, ((double)node.z + this.mob.getZ()) / 2.0D);
@@ -15,14 +15,19 @@ public class NearestItemSensor extends Sensor<Mob> {
    private static final long XZ_RANGE = 8L;
    private static final long Y_RANGE = 4L;
    public static final int MAX_DISTANCE_TO_WANTED_ITEM = 9;
+   private static final SharedSensorQueries.Query<ItemEntity> QUERY = new SharedSensorQueries.Query<>(ItemEntity.class, 8.0D, 4.0D);
 
    public Set<MemoryModuleType<?>> requires() {
       return ImmutableSet.of(MemoryModuleType.NEAREST_VISIBLE_WANTED_ITEM);
    }
 
+   protected boolean isScanBudgeted() {
+      return true;
+   }
+
    protected void doTick(ServerLevel pLevel, Mob pEntity) {
       Brain<?> brain = pEntity.getBrain();
-      List<ItemEntity> list = pLevel.getEntitiesOfClass(ItemEntity.class, pEntity.getBoundingBox().inflate(8.0D, 4.0D, 8.0D), (p_26703_) -> {
+      List<ItemEntity> list = pLevel.getSharedSensorQueries().getEntities(QUERY, pEntity, (p_26703_) -> {
          return true;
       });
       list.sort(Comparator.comparingDouble(pEntity::distanceToSqr));
@@ -9,12 +9,16 @@ import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.ai.Brain;
 import net.minecraft.world.entity.ai.memory.MemoryModuleType;
-import net.minecraft.world.phys.AABB;
 
 public class NearestLivingEntitySensor extends Sensor<LivingEntity> {
+   private static final SharedSensorQueries.Query<LivingEntity> QUERY = new SharedSensorQueries.Query<>(LivingEntity.class, 16.0D, 16.0D);
+
+   protected boolean isScanBudgeted() {
+      return true;
+   }
+
    protected void doTick(ServerLevel pLevel, LivingEntity pEntity) {
-      AABB aabb = pEntity.getBoundingBox().inflate(16.0D, 16.0D, 16.0D);
-      List<LivingEntity> list = pLevel.getEntitiesOfClass(LivingEntity.class, aabb, (p_26717_) -> {
+      List<LivingEntity> list = pLevel.getSharedSensorQueries().getEntities(QUERY, pEntity, (p_26717_) -> {
          return p_26717_ != pEntity && p_26717_.isAlive();
       });
       list.sort(Comparator.comparingDouble(pEntity::distanceToSqr));
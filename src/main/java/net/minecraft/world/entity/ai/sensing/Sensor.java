@@ -30,13 +30,17 @@ public abstract class Sensor<E extends LivingEntity> {
    }
 
    public final void tick(ServerLevel pLevel, E pEntity) {
-      if (--this.timeToTick <= 0L) {
+      if (--this.timeToTick <= 0L && (!this.isScanBudgeted() || this.timeToTick <= (long)(-this.scanRate) || pLevel.getSharedSensorQueries().tryStartScan())) {
          this.timeToTick = (long)this.scanRate;
          this.doTick(pLevel, pEntity);
       }
 
    }
 
+   protected boolean isScanBudgeted() {
+      return false;
+   }
+
    protected abstract void doTick(ServerLevel pLevel, E pAttacker);
 
    public abstract Set<MemoryModuleType<?>> requires();
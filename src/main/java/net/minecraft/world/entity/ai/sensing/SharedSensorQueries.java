@@ -0,0 +1,116 @@
+package net.minecraft.world.entity.ai.sensing;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.phys.AABB;
+
+public class SharedSensorQueries {
+   private static final int MAX_SCANS_PER_TICK = 256;
+   private static final double SOURCE_MARGIN = 2.0D;
+   private static final double QUERY_MARGIN = 4.0D;
+   private final ServerLevel level;
+   private final Map<SharedSensorQueries.Query<?>, Long2ObjectMap<List<? extends Entity>>> cachedCells = Maps.newIdentityHashMap();
+   private int scansThisTick;
+
+   public SharedSensorQueries(ServerLevel pLevel) {
+      this.level = pLevel;
+   }
+
+   public void tick() {
+      this.cachedCells.clear();
+      this.scansThisTick = 0;
+   }
+
+   public boolean tryStartScan() {
+      if (this.scansThisTick >= MAX_SCANS_PER_TICK) {
+         return false;
+      } else {
+         ++this.scansThisTick;
+         return true;
+      }
+   }
+
+   public void onEntityAdded(Entity pEntity) {
+      if (!this.cachedCells.isEmpty()) {
+         AABB aabb = pEntity.getBoundingBox();
+
+         for(Map.Entry<SharedSensorQueries.Query<?>, Long2ObjectMap<List<? extends Entity>>> entry : this.cachedCells.entrySet()) {
+            SharedSensorQueries.Query<?> query = entry.getKey();
+            Long2ObjectMap<List<? extends Entity>> long2objectmap = entry.getValue();
+            if (!long2objectmap.isEmpty() && query.entityClass.isInstance(pEntity)) {
+               double d0 = query.xzRange + QUERY_MARGIN;
+               double d1 = query.yRange + QUERY_MARGIN;
+               int i = SectionPos.blockToSectionCoord(Mth.floor(aabb.minX - d0)) - 1;
+               int j = SectionPos.blockToSectionCoord(Mth.floor(aabb.minY - d1)) - 1;
+               int k = SectionPos.blockToSectionCoord(Mth.floor(aabb.minZ - d0)) - 1;
+               int l = SectionPos.blockToSectionCoord(Mth.floor(aabb.maxX + d0));
+               int i1 = SectionPos.blockToSectionCoord(Mth.floor(aabb.maxY + d1));
+               int j1 = SectionPos.blockToSectionCoord(Mth.floor(aabb.maxZ + d0));
+
+               for(int k1 = i; k1 <= l; ++k1) {
+                  for(int l1 = j; l1 <= i1; ++l1) {
+                     for(int i2 = k; i2 <= j1; ++i2) {
+                        long2objectmap.remove(SectionPos.asLong(k1, l1, i2));
+                     }
+                  }
+               }
+            }
+         }
+
+      }
+   }
+
+   public <T extends Entity> List<T> getEntities(SharedSensorQueries.Query<T> pQuery, Entity pEntity, Predicate<? super T> pPredicate) {
+      AABB aabb = pEntity.getBoundingBox().inflate(pQuery.xzRange, pQuery.yRange, pQuery.xzRange);
+      int i = SectionPos.blockToSectionCoord(pEntity.getBlockX());
+      int j = SectionPos.blockToSectionCoord(pEntity.getBlockY());
+      int k = SectionPos.blockToSectionCoord(pEntity.getBlockZ());
+      AABB aabb1 = new AABB((double)SectionPos.sectionToBlockCoord(i), (double)SectionPos.sectionToBlockCoord(j), (double)SectionPos.sectionToBlockCoord(k), (double)SectionPos.sectionToBlockCoord(i + 1), (double)SectionPos.sectionToBlockCoord(j + 1), (double)SectionPos.sectionToBlockCoord(k + 1));
+      if (!encloses(aabb1.inflate(pQuery.xzRange + SOURCE_MARGIN, pQuery.yRange + SOURCE_MARGIN, pQuery.xzRange + SOURCE_MARGIN), aabb)) {
+         return this.level.getEntitiesOfClass(pQuery.entityClass, aabb, pPredicate);
+      } else {
+         Long2ObjectMap<List<? extends Entity>> long2objectmap = this.cachedCells.computeIfAbsent(pQuery, (p_182000_) -> {
+            return new Long2ObjectOpenHashMap<>();
+         });
+         List<T> list = (List<T>)long2objectmap.computeIfAbsent(SectionPos.asLong(i, j, k), (long p_182001_) -> {
+            return this.level.getEntitiesOfClass(pQuery.entityClass, aabb1.inflate(pQuery.xzRange + QUERY_MARGIN, pQuery.yRange + QUERY_MARGIN, pQuery.xzRange + QUERY_MARGIN), (p_182002_) -> {
+               return true;
+            });
+         });
+         List<T> list1 = Lists.newArrayList();
+
+         for(T t : list) {
+            if (!t.isRemoved() && t.getBoundingBox().intersects(aabb) && pPredicate.test(t)) {
+               list1.add(t);
+            }
+         }
+
+         return list1;
+      }
+   }
+
+   private static boolean encloses(AABB pOuter, AABB pInner) {
+      return pInner.minX >= pOuter.minX && pInner.minY >= pOuter.minY && pInner.minZ >= pOuter.minZ && pInner.maxX <= pOuter.maxX && pInner.maxY <= pOuter.maxY && pInner.maxZ <= pOuter.maxZ;
+   }
+
+   public static class Query<T extends Entity> {
+      final Class<T> entityClass;
+      final double xzRange;
+      final double yRange;
+
+      public Query(Class<T> pEntityClass, double pXzRange, double pYRange) {
+         this.entityClass = pEntityClass;
+         this.xzRange = pXzRange;
+         this.yRange = pYRange;
+      }
+   }
+}
\ No newline at end of file
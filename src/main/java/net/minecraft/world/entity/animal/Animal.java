@@ -65,6 +65,18 @@ public abstract class Animal extends AgeableMob {
 
    }
 
+   public void inactiveTick() {
+      super.inactiveTick();
+      if (this.getAge() != 0) {
+         this.inLove = 0;
+      }
+
+      if (this.inLove > 0) {
+         --this.inLove;
+      }
+
+   }
+
    public boolean hurt(DamageSource pSource, float pAmount) {
       if (this.isInvulnerableTo(pSource)) {
          return false;
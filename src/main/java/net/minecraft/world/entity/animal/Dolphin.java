@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import javax.annotation.Nullable;
 import net.minecraft.core.BlockPos;
@@ -361,6 +362,8 @@ public class Dolphin extends WaterAnimal {
    static class DolphinSwimToTreasureGoal extends Goal {
       private final Dolphin dolphin;
       private boolean stuck;
+      @Nullable
+      private CompletableFuture<BlockPos> treasureSearch;
 
       DolphinSwimToTreasureGoal(Dolphin p_28402_) {
          this.dolphin = p_28402_;
@@ -376,8 +379,12 @@ public class Dolphin extends WaterAnimal {
       }
 
       public boolean canContinueToUse() {
-         BlockPos blockpos = this.dolphin.getTreasurePos();
-         return !(new BlockPos((double)blockpos.getX(), this.dolphin.getY(), (double)blockpos.getZ())).closerThan(this.dolphin.position(), 4.0D) && !this.stuck && this.dolphin.getAirSupply() >= 100;
+         if (this.treasureSearch != null) {
+            return this.dolphin.getAirSupply() >= 100;
+         } else {
+            BlockPos blockpos = this.dolphin.getTreasurePos();
+            return !(new BlockPos((double)blockpos.getX(), this.dolphin.getY(), (double)blockpos.getZ())).closerThan(this.dolphin.position(), 4.0D) && !this.stuck && this.dolphin.getAirSupply() >= 100;
+         }
       }
 
       public void start() {
@@ -387,35 +394,40 @@ public class Dolphin extends WaterAnimal {
             this.dolphin.getNavigation().stop();
             BlockPos blockpos = this.dolphin.blockPosition();
             StructureFeature<?> structurefeature = (double)serverlevel.random.nextFloat() >= 0.5D ? StructureFeature.OCEAN_RUIN : StructureFeature.SHIPWRECK;
-            BlockPos blockpos1 = serverlevel.findNearestMapFeature(structurefeature, blockpos, 50, false);
-            if (blockpos1 == null) {
-               StructureFeature<?> structurefeature1 = structurefeature.equals(StructureFeature.OCEAN_RUIN) ? StructureFeature.SHIPWRECK : StructureFeature.OCEAN_RUIN;
-               BlockPos blockpos2 = serverlevel.findNearestMapFeature(structurefeature1, blockpos, 50, false);
-               if (blockpos2 == null) {
-                  this.stuck = true;
-                  return;
+            StructureFeature<?> structurefeature1 = structurefeature.equals(StructureFeature.OCEAN_RUIN) ? StructureFeature.SHIPWRECK : StructureFeature.OCEAN_RUIN;
+            CompletableFuture<BlockPos> completablefuture = serverlevel.findNearestMapFeatureAsync(structurefeature, blockpos, 50, false).thenCompose((p_182031_) -> {
+               return p_182031_ != null ? CompletableFuture.completedFuture(p_182031_) : serverlevel.findNearestMapFeatureAsync(structurefeature1, blockpos, 50, false);
+            });
+            this.treasureSearch = completablefuture;
+            completablefuture.thenAccept((p_182032_) -> {
+               if (this.treasureSearch == completablefuture) {
+                  this.treasureSearch = null;
+                  if (p_182032_ == null) {
+                     this.stuck = true;
+                  } else {
+                     this.dolphin.setTreasurePos(p_182032_);
+                     serverlevel.broadcastEntityEvent(this.dolphin, (byte)38);
+                  }
                }
-
-               this.dolphin.setTreasurePos(blockpos2);
-            } else {
-               this.dolphin.setTreasurePos(blockpos1);
-            }
-
-            serverlevel.broadcastEntityEvent(this.dolphin, (byte)38);
+            });
          }
       }
 
       public void stop() {
-         BlockPos blockpos = this.dolphin.getTreasurePos();
-         if ((new BlockPos((double)blockpos.getX(), this.dolphin.getY(), (double)blockpos.getZ())).closerThan(this.dolphin.position(), 4.0D) || this.stuck) {
-            this.dolphin.setGotFish(false);
+         if (this.treasureSearch != null) {
+            this.treasureSearch = null;
+         } else {
+            BlockPos blockpos = this.dolphin.getTreasurePos();
+            if ((new BlockPos((double)blockpos.getX(), this.dolphin.getY(), (double)blockpos.getZ())).closerThan(this.dolphin.position(), 4.0D) || this.stuck) {
+               this.dolphin.setGotFish(false);
+            }
          }
 
       }
 
       public void tick() {
          Level level = this.dolphin.level;
-         if (this.dolphin.closeToNextPos() || this.dolphin.getNavigation().isDone()) {
+         if (this.treasureSearch == null && (this.dolphin.closeToNextPos() || this.dolphin.getNavigation().isDone())) {
             Vec3 vec3 = Vec3.atCenterOf(this.dolphin.getTreasurePos());
             Vec3 vec31 = DefaultRandomPos.getPosTowards(this.dolphin, 16, 1, vec3, (double)((float)Math.PI / 8F));
             if (vec31 == null) {
@@ -131,7 +131,7 @@ public class ItemEntity extends Entity {
          boolean flag = Mth.floor(this.xo) != Mth.floor(this.getX()) || Mth.floor(this.yo) != Mth.floor(this.getY()) || Mth.floor(this.zo) != Mth.floor(this.getZ());
          int i = flag ? 2 : 40;
          if (this.tickCount % i == 0 && !this.level.isClientSide && this.isMergable()) {
-            this.mergeWithNeighbours();
+            ((ServerLevel)this.level).getEntityMerger().requestMerge(this);
          }
 
          if (this.age != -32768) {
@@ -179,12 +179,12 @@ public class ItemEntity extends Entity {
       }
    }
 
-   private boolean isMergable() {
+   public boolean isMergable() {
       ItemStack itemstack = this.getItem();
       return this.isAlive() && this.pickupDelay != 32767 && this.age != -32768 && this.age < 6000 && itemstack.getCount() < itemstack.getMaxStackSize();
    }
 
-   private void tryToMerge(ItemEntity p_32016_) {
+   public void tryToMerge(ItemEntity p_32016_) {
       ItemStack itemstack = this.getItem();
       ItemStack itemstack1 = p_32016_.getItem();
       if (Objects.equals(this.getOwner(), p_32016_.getOwner()) && areMergable(itemstack, itemstack1)) {
@@ -1,5 +1,7 @@
 package net.minecraft.world.level;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
@@ -7,9 +9,14 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import javax.annotation.Nullable;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.border.WorldBorder;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.phys.shapes.BooleanOp;
@@ -68,6 +75,66 @@ public interface CollisionGetter extends BlockGetter {
       return StreamSupport.stream(new CollisionSpliterator(this, pEntity, pCollisionBox), false);
    }
 
+   default void collectBlockCollisions(@Nullable Entity pEntity, AABB pCollisionBox, List<AABB> pOutput) {
+      CollisionContext collisioncontext = pEntity == null ? CollisionContext.empty() : CollisionContext.of(pEntity);
+      BlockPos.MutableBlockPos blockpos$mutableblockpos = new BlockPos.MutableBlockPos();
+      int i = Mth.floor(pCollisionBox.minX - 1.0E-7D) - 1;
+      int j = Mth.floor(pCollisionBox.maxX + 1.0E-7D) + 1;
+      int k = Mth.floor(pCollisionBox.minY - 1.0E-7D) - 1;
+      int l = Mth.floor(pCollisionBox.maxY + 1.0E-7D) + 1;
+      int i1 = Mth.floor(pCollisionBox.minZ - 1.0E-7D) - 1;
+      int j1 = Mth.floor(pCollisionBox.maxZ + 1.0E-7D) + 1;
+
+      for(int k1 = i; k1 <= j; ++k1) {
+         for(int l1 = i1; l1 <= j1; ++l1) {
+            int i2 = (k1 != i && k1 != j ? 0 : 1) + (l1 != i1 && l1 != j1 ? 0 : 1);
+            BlockGetter blockgetter = this.getChunkForCollisions(SectionPos.blockToSectionCoord(k1), SectionPos.blockToSectionCoord(l1));
+            if (blockgetter != null) {
+               ChunkAccess chunkaccess = blockgetter instanceof ChunkAccess ? (ChunkAccess)blockgetter : null;
+               LevelChunkSection[] alevelchunksection = chunkaccess != null ? chunkaccess.getSections() : null;
+
+               for(int j2 = k; j2 <= l; ++j2) {
+                  int k2 = i2 + (j2 != k && j2 != l ? 0 : 1);
+                  if (k2 != 3) {
+                     BlockState blockstate;
+                     if (alevelchunksection != null) {
+                        int l2 = chunkaccess.getSectionIndex(j2);
+                        if (l2 < 0 || l2 >= alevelchunksection.length || LevelChunkSection.isEmpty(alevelchunksection[l2])) {
+                           continue;
+                        }
+
+                        blockstate = alevelchunksection[l2].getBlockState(k1 & 15, j2 & 15, l1 & 15);
+                     } else {
+                        blockpos$mutableblockpos.set(k1, j2, l1);
+                        blockstate = blockgetter.getBlockState(blockpos$mutableblockpos);
+                     }
+
+                     if (!blockstate.isAir() && (k2 != 1 || blockstate.hasLargeCollisionShape()) && (k2 != 2 || blockstate.is(Blocks.MOVING_PISTON))) {
+                        blockpos$mutableblockpos.set(k1, j2, l1);
+                        VoxelShape voxelshape = blockstate.getCollisionShape(this, blockpos$mutableblockpos, collisioncontext);
+                        if (voxelshape == Shapes.block()) {
+                           if (pCollisionBox.intersects((double)k1, (double)j2, (double)l1, (double)k1 + 1.0D, (double)j2 + 1.0D, (double)l1 + 1.0D)) {
+                              pOutput.add(new AABB((double)k1, (double)j2, (double)l1, (double)k1 + 1.0D, (double)j2 + 1.0D, (double)l1 + 1.0D));
+                           }
+                        } else if (!voxelshape.isEmpty()) {
+                           AABB[] aabbs = blockstate.getCollisionBoxes(voxelshape);
+
+                           for(AABB aabb : aabbs != null ? Arrays.asList(aabbs) : voxelshape.toAabbs()) {
+                              AABB aabb1 = aabb.move((double)k1, (double)j2, (double)l1);
+                              if (aabb1.intersects(pCollisionBox)) {
+                                 pOutput.add(aabb1);
+                              }
+                           }
+                        }
+                     }
+                  }
+               }
+            }
+         }
+      }
+
+   }
+
    default boolean hasBlockCollision(@Nullable Entity pEntity, AABB pCollisionBox, BiPredicate<BlockState, BlockPos> pFilter) {
       return !this.getBlockCollisions(pEntity, pCollisionBox, pFilter).allMatch(VoxelShape::isEmpty);
    }
@@ -21,7 +21,7 @@ import net.minecraft.world.phys.shapes.VoxelShape;
 
 public class CollisionSpliterator extends AbstractSpliterator<VoxelShape> {
    @Nullable
-   private final Entity source;
+   private final AABB sourceBox;
    private final AABB box;
    private final CollisionContext context;
    private final Cursor3D cursor;
@@ -38,13 +38,23 @@ public class CollisionSpliterator extends AbstractSpliterator<VoxelShape> {
    }
 
    public CollisionSpliterator(CollisionGetter pCollisionGetter, @Nullable Entity pSource, AABB pBox, BiPredicate<BlockState, BlockPos> pPredicate) {
+      this(pCollisionGetter, pSource == null ? CollisionContext.empty() : CollisionContext.of(pSource), pSource == null ? null : pSource.getBoundingBox(), pBox, pPredicate);
+   }
+
+   public CollisionSpliterator(CollisionGetter pCollisionGetter, CollisionContext pContext, @Nullable AABB pSourceBox, AABB pBox) {
+      this(pCollisionGetter, pContext, pSourceBox, pBox, (p_182042_, p_182043_) -> {
+         return true;
+      });
+   }
+
+   public CollisionSpliterator(CollisionGetter pCollisionGetter, CollisionContext pContext, @Nullable AABB pSourceBox, AABB pBox, BiPredicate<BlockState, BlockPos> pPredicate) {
       super(Long.MAX_VALUE, 1280);
-      this.context = pSource == null ? CollisionContext.empty() : CollisionContext.of(pSource);
+      this.context = pContext;
       this.pos = new BlockPos.MutableBlockPos();
       this.entityShape = Shapes.create(pBox);
       this.collisionGetter = pCollisionGetter;
-      this.needsBorderCheck = pSource != null;
-      this.source = pSource;
+      this.needsBorderCheck = pSourceBox != null;
+      this.sourceBox = pSourceBox;
       this.box = pBox;
       this.predicate = pPredicate;
       int i = Mth.floor(pBox.minX - 1.0E-7D) - 1;
@@ -113,10 +123,10 @@ public class CollisionSpliterator extends AbstractSpliterator<VoxelShape> {
    }
 
    boolean worldBorderCheck(Consumer<? super VoxelShape> pConsumer) {
-      Objects.requireNonNull(this.source);
+      Objects.requireNonNull(this.sourceBox);
       this.needsBorderCheck = false;
       WorldBorder worldborder = this.collisionGetter.getWorldBorder();
-      AABB aabb = this.source.getBoundingBox();
+      AABB aabb = this.sourceBox;
       if (!isBoxFullyWithinWorldBorder(worldborder, aabb)) {
          VoxelShape voxelshape = worldborder.getCollisionShape();
          if (!isOutsideBorder(voxelshape, aabb) && isCloseToBorder(voxelshape, aabb)) {
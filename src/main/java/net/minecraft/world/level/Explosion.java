@@ -4,6 +4,9 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.mojang.datafixers.util.Pair;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -11,8 +14,14 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
 import javax.annotation.Nullable;
+import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
@@ -43,6 +52,24 @@ import net.minecraft.world.phys.Vec3;
 public class Explosion {
    private static final ExplosionDamageCalculator EXPLOSION_DAMAGE_CALCULATOR = new ExplosionDamageCalculator();
    private static final int MAX_DROPS_PER_COMBINED_STACK = 16;
+   private static final int PARALLEL_SLICES = 4;
+   private static final int MIN_SLICE_SIZE = 8;
+   private static final double[][] RAY_DIRECTIONS = Util.make(Lists.<double[]>newArrayList(), (p_182015_) -> {
+      for(int j = 0; j < 16; ++j) {
+         for(int k = 0; k < 16; ++k) {
+            for(int l = 0; l < 16; ++l) {
+               if (j == 0 || j == 15 || k == 0 || k == 15 || l == 0 || l == 15) {
+                  double d0 = (double)((float)j / 15.0F * 2.0F - 1.0F);
+                  double d1 = (double)((float)k / 15.0F * 2.0F - 1.0F);
+                  double d2 = (double)((float)l / 15.0F * 2.0F - 1.0F);
+                  double d3 = Math.sqrt(d0 * d0 + d1 * d1 + d2 * d2);
+                  p_182015_.add(new double[]{d0 / d3, d1 / d3, d2 / d3});
+               }
+            }
+         }
+      }
+
+   }).toArray(new double[0][]);
    private final boolean fire;
    private final Explosion.BlockInteraction blockInteraction;
    private final Random random = new Random();
@@ -93,6 +120,10 @@ public class Explosion {
    }
 
    public static float getSeenPercent(Vec3 pExplosionVector, Entity pEntity) {
+      return getSeenPercent(pExplosionVector, pEntity, pEntity.level);
+   }
+
+   private static float getSeenPercent(Vec3 pExplosionVector, Entity pEntity, BlockGetter pLevel) {
       AABB aabb = pEntity.getBoundingBox();
       double d0 = 1.0D / ((aabb.maxX - aabb.minX) * 2.0D + 1.0D);
       double d1 = 1.0D / ((aabb.maxY - aabb.minY) * 2.0D + 1.0D);
@@ -110,7 +141,7 @@ public class Explosion {
                   double d6 = Mth.lerp((double)f1, aabb.minY, aabb.maxY);
                   double d7 = Mth.lerp((double)f2, aabb.minZ, aabb.maxZ);
                   Vec3 vec3 = new Vec3(d5 + d3, d6, d7 + d4);
-                  if (pEntity.level.clip(new ClipContext(vec3, pExplosionVector, ClipContext.Block.COLLIDER, ClipContext.Fluid.NONE, pEntity)).getType() == HitResult.Type.MISS) {
+                  if (pLevel.clip(new ClipContext(vec3, pExplosionVector, ClipContext.Block.COLLIDER, ClipContext.Fluid.NONE, pEntity)).getType() == HitResult.Type.MISS) {
                      ++i;
                   }
 
@@ -128,51 +159,6 @@ public class Explosion {
    public void explode() {
       this.level.gameEvent(this.source, GameEvent.EXPLODE, new BlockPos(this.x, this.y, this.z));
       Set<BlockPos> set = Sets.newHashSet();
-      int i = 16;
-
-      for(int j = 0; j < 16; ++j) {
-         for(int k = 0; k < 16; ++k) {
-            for(int l = 0; l < 16; ++l) {
-               if (j == 0 || j == 15 || k == 0 || k == 15 || l == 0 || l == 15) {
-                  double d0 = (double)((float)j / 15.0F * 2.0F - 1.0F);
-                  double d1 = (double)((float)k / 15.0F * 2.0F - 1.0F);
-                  double d2 = (double)((float)l / 15.0F * 2.0F - 1.0F);
-                  double d3 = Math.sqrt(d0 * d0 + d1 * d1 + d2 * d2);
-                  d0 = d0 / d3;
-                  d1 = d1 / d3;
-                  d2 = d2 / d3;
-                  float f = this.radius * (0.7F + this.level.random.nextFloat() * 0.6F);
-                  double d4 = this.x;
-                  double d6 = this.y;
-                  double d8 = this.z;
-
-                  for(float f1 = 0.3F; f > 0.0F; f -= 0.22500001F) {
-                     BlockPos blockpos = new BlockPos(d4, d6, d8);
-                     BlockState blockstate = this.level.getBlockState(blockpos);
-                     FluidState fluidstate = this.level.getFluidState(blockpos);
-                     if (!this.level.isInWorldBounds(blockpos)) {
-                        break;
-                     }
-
-                     Optional<Float> optional = this.damageCalculator.getBlockExplosionResistance(this, this.level, blockpos, blockstate, fluidstate);
-                     if (optional.isPresent()) {
-                        f -= (optional.get() + 0.3F) * 0.3F;
-                     }
-
-                     if (f > 0.0F && this.damageCalculator.shouldBlockExplode(this, this.level, blockpos, blockstate, f)) {
-                        set.add(blockpos);
-                     }
-
-                     d4 += d0 * (double)0.3F;
-                     d6 += d1 * (double)0.3F;
-                     d8 += d2 * (double)0.3F;
-                  }
-               }
-            }
-         }
-      }
-
-      this.toBlow.addAll(set);
       float f2 = this.radius * 2.0F;
       int k1 = Mth.floor(this.x - (double)f2 - 1.0D);
       int l1 = Mth.floor(this.x + (double)f2 + 1.0D);
@@ -182,6 +168,22 @@ public class Explosion {
       int j1 = Mth.floor(this.z + (double)f2 + 1.0D);
       List<Entity> list = this.level.getEntities(this.source, new AABB((double)k1, (double)i2, (double)j2, (double)l1, (double)i1, (double)j1));
       Vec3 vec3 = new Vec3(this.x, this.y, this.z);
+      ExplosionCache explosioncache = this.level instanceof ServerLevel ? ((ServerLevel)this.level).getExplosionCache() : null;
+      BlockGetter blockgetter = explosioncache != null ? this.createSnapshot(list) : null;
+      if (blockgetter == null) {
+         this.collectBlocksSerially(set);
+      } else {
+         Explosion.RayProfile[] aexplosion$rayprofile = this.getRayProfiles(explosioncache, blockgetter);
+
+         for(int i = 0; i < aexplosion$rayprofile.length; ++i) {
+            aexplosion$rayprofile[i].collect(this, this.radius * (0.7F + this.level.random.nextFloat() * 0.6F), set);
+         }
+      }
+
+      this.toBlow.addAll(set);
+      AABB[] aabb = new AABB[list.size()];
+      float[] afloat = blockgetter != null ? this.computeExposures(explosioncache, blockgetter, list, aabb, vec3, f2) : null;
+      int j = explosioncache != null ? explosioncache.getGeneration() : 0;
 
       for(int k2 = 0; k2 < list.size(); ++k2) {
          Entity entity = list.get(k2);
@@ -196,7 +198,7 @@ public class Explosion {
                   d5 = d5 / d13;
                   d7 = d7 / d13;
                   d9 = d9 / d13;
-                  double d14 = (double)getSeenPercent(vec3, entity);
+                  double d14 = afloat != null && !Float.isNaN(afloat[k2]) && explosioncache.getGeneration() == j && entity.getBoundingBox().equals(aabb[k2]) ? (double)afloat[k2] : (double)getSeenPercent(vec3, entity);
                   double d10 = (1.0D - d12) * d14;
                   entity.hurt(this.getDamageSource(), (float)((int)((d10 * d10 + d10) / 2.0D * 7.0D * (double)f2 + 1.0D)));
                   double d11 = d10;
@@ -218,6 +220,163 @@ public class Explosion {
 
    }
 
+   private void collectBlocksSerially(Set<BlockPos> pPositions) {
+      for(double[] adouble : RAY_DIRECTIONS) {
+         float f = this.radius * (0.7F + this.level.random.nextFloat() * 0.6F);
+         double d4 = this.x;
+         double d6 = this.y;
+         double d8 = this.z;
+
+         for(float f1 = 0.3F; f > 0.0F; f -= 0.22500001F) {
+            BlockPos blockpos = new BlockPos(d4, d6, d8);
+            BlockState blockstate = this.level.getBlockState(blockpos);
+            FluidState fluidstate = this.level.getFluidState(blockpos);
+            if (!this.level.isInWorldBounds(blockpos)) {
+               break;
+            }
+
+            Optional<Float> optional = this.damageCalculator.getBlockExplosionResistance(this, this.level, blockpos, blockstate, fluidstate);
+            if (optional.isPresent()) {
+               f -= (optional.get() + 0.3F) * 0.3F;
+            }
+
+            if (f > 0.0F && this.damageCalculator.shouldBlockExplode(this, this.level, blockpos, blockstate, f)) {
+               pPositions.add(blockpos);
+            }
+
+            d4 += adouble[0] * (double)0.3F;
+            d6 += adouble[1] * (double)0.3F;
+            d8 += adouble[2] * (double)0.3F;
+         }
+      }
+
+   }
+
+   @Nullable
+   private BlockGetter createSnapshot(List<Entity> pEntities) {
+      double d0 = (double)((this.radius * 1.3F / 0.22500001F + 2.0F) * 0.3F) + 1.0D;
+      AABB aabb = new AABB(this.x - d0, this.y - d0, this.z - d0, this.x + d0, this.y + d0, this.z + d0);
+
+      for(Entity entity : pEntities) {
+         aabb = aabb.minmax(entity.getBoundingBox());
+      }
+
+      BlockPos blockpos = new BlockPos(aabb.minX - 1.0D, aabb.minY - 1.0D, aabb.minZ - 1.0D);
+      BlockPos blockpos1 = new BlockPos(aabb.maxX + 1.0D, aabb.maxY + 1.0D, aabb.maxZ + 1.0D);
+
+      for(int i = SectionPos.blockToSectionCoord(blockpos.getX()); i <= SectionPos.blockToSectionCoord(blockpos1.getX()); ++i) {
+         for(int j = SectionPos.blockToSectionCoord(blockpos.getZ()); j <= SectionPos.blockToSectionCoord(blockpos1.getZ()); ++j) {
+            if (this.level.getChunkSource().getChunkNow(i, j) == null) {
+               return null;
+            }
+         }
+      }
+
+      return new PathNavigationRegion(this.level, blockpos, blockpos1);
+   }
+
+   private Explosion.RayProfile[] getRayProfiles(ExplosionCache pCache, BlockGetter pLevel) {
+      boolean flag = this.damageCalculator == EXPLOSION_DAMAGE_CALCULATOR || this.damageCalculator instanceof EntityBasedExplosionDamageCalculator && this.source instanceof PrimedTnt;
+      Explosion.RayProfile[] aexplosion$rayprofile = flag ? pCache.getRayProfiles(this.x, this.y, this.z, this.radius) : null;
+      if (aexplosion$rayprofile == null) {
+         Explosion.RayProfile[] aexplosion$rayprofile1 = new Explosion.RayProfile[RAY_DIRECTIONS.length];
+         runParallel(aexplosion$rayprofile1.length, (p_182013_) -> {
+            aexplosion$rayprofile1[p_182013_] = this.castRay(pLevel, RAY_DIRECTIONS[p_182013_]);
+         });
+         if (flag) {
+            pCache.putRayProfiles(this.x, this.y, this.z, this.radius, aexplosion$rayprofile1);
+         }
+
+         aexplosion$rayprofile = aexplosion$rayprofile1;
+      }
+
+      return aexplosion$rayprofile;
+   }
+
+   private Explosion.RayProfile castRay(BlockGetter pLevel, double[] pDirection) {
+      List<BlockPos> list = Lists.newArrayList();
+      List<BlockState> list1 = Lists.newArrayList();
+      FloatArrayList floatarraylist = new FloatArrayList();
+      double d4 = this.x;
+      double d6 = this.y;
+      double d8 = this.z;
+
+      for(float f = this.radius * 1.3F + 0.22500001F; f > 0.0F; f -= 0.22500001F) {
+         BlockPos blockpos = new BlockPos(d4, d6, d8);
+         BlockState blockstate = pLevel.getBlockState(blockpos);
+         FluidState fluidstate = pLevel.getFluidState(blockpos);
+         if (!this.level.isInWorldBounds(blockpos)) {
+            break;
+         }
+
+         Optional<Float> optional = this.damageCalculator.getBlockExplosionResistance(this, pLevel, blockpos, blockstate, fluidstate);
+         list.add(blockpos);
+         list1.add(blockstate);
+         floatarraylist.add(optional.isPresent() ? optional.get() : Float.NaN);
+         d4 += pDirection[0] * (double)0.3F;
+         d6 += pDirection[1] * (double)0.3F;
+         d8 += pDirection[2] * (double)0.3F;
+      }
+
+      return new Explosion.RayProfile(list.toArray(new BlockPos[0]), list1.toArray(new BlockState[0]), floatarraylist.toFloatArray());
+   }
+
+   private float[] computeExposures(ExplosionCache pCache, BlockGetter pLevel, List<Entity> pEntities, AABB[] pBoxes, Vec3 pCenter, float pDiameter) {
+      float[] afloat = new float[pEntities.size()];
+      IntList intlist = new IntArrayList();
+
+      for(int i = 0; i < pEntities.size(); ++i) {
+         Entity entity = pEntities.get(i);
+         afloat[i] = Float.NaN;
+         pBoxes[i] = entity.getBoundingBox();
+         if (!entity.ignoreExplosion() && Math.sqrt(entity.distanceToSqr(pCenter)) / (double)pDiameter <= 1.0D) {
+            Float f = pCache.getExposure(this.x, this.y, this.z, pBoxes[i]);
+            if (f != null) {
+               afloat[i] = f;
+            } else {
+               intlist.add(i);
+            }
+         }
+      }
+
+      runParallel(intlist.size(), (p_182014_) -> {
+         int k = intlist.getInt(p_182014_);
+         afloat[k] = getSeenPercent(pCenter, pEntities.get(k), pLevel);
+      });
+
+      for(int j = 0; j < intlist.size(); ++j) {
+         int l = intlist.getInt(j);
+         pCache.putExposure(this.x, this.y, this.z, pBoxes[l], afloat[l]);
+      }
+
+      return afloat;
+   }
+
+   private static void runParallel(int pCount, IntConsumer pTask) {
+      Executor executor = Util.explosionExecutor();
+      int i = executor instanceof ForkJoinPool && ((ForkJoinPool)executor).hasQueuedSubmissions() ? 1 : Math.min(PARALLEL_SLICES, (pCount + MIN_SLICE_SIZE - 1) / MIN_SLICE_SIZE);
+      List<CompletableFuture<Void>> list = Lists.newArrayList();
+
+      for(int j = 1; j < i; ++j) {
+         int k = pCount * j / i;
+         int l = pCount * (j + 1) / i;
+         list.add(CompletableFuture.runAsync(() -> {
+            for(int j1 = k; j1 < l; ++j1) {
+               pTask.accept(j1);
+            }
+
+         }, executor));
+      }
+
+      int i1 = i > 1 ? pCount / i : pCount;
+
+      for(int k1 = 0; k1 < i1; ++k1) {
+         pTask.accept(k1);
+      }
+
+      CompletableFuture.allOf(list.toArray(new CompletableFuture[0])).join();
+   }
+
    public void finalizeExplosion(boolean pSpawnParticles) {
       if (this.level.isClientSide) {
          this.level.playLocalSound(this.x, this.y, this.z, SoundEvents.GENERIC_EXPLODE, SoundSource.BLOCKS, 4.0F, (1.0F + (this.level.random.nextFloat() - this.level.random.nextFloat()) * 0.2F) * 0.7F, false);
@@ -329,6 +488,36 @@ public class Explosion {
       return this.toBlow;
    }
 
+   static class RayProfile {
+      private final BlockPos[] positions;
+      private final BlockState[] states;
+      private final float[] resistances;
+
+      RayProfile(BlockPos[] pPositions, BlockState[] pStates, float[] pResistances) {
+         this.positions = pPositions;
+         this.states = pStates;
+         this.resistances = pResistances;
+      }
+
+      void collect(Explosion pExplosion, float pPower, Set<BlockPos> pPositions) {
+         float f = pPower;
+
+         for(int i = 0; f > 0.0F && i < this.positions.length; ++i) {
+            float f1 = this.resistances[i];
+            if (!Float.isNaN(f1)) {
+               f -= (f1 + 0.3F) * 0.3F;
+            }
+
+            if (f > 0.0F && pExplosion.damageCalculator.shouldBlockExplode(pExplosion, pExplosion.level, this.positions[i], this.states[i], f)) {
+               pPositions.add(this.positions[i]);
+            }
+
+            f -= 0.22500001F;
+         }
+
+      }
+   }
+
    public static enum BlockInteraction {
       NONE,
       BREAK,
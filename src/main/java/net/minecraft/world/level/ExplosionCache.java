@@ -0,0 +1,79 @@
+package net.minecraft.world.level;
+
+import com.google.common.collect.Maps;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Nullable;
+import net.minecraft.world.phys.AABB;
+
+public class ExplosionCache {
+   private final Map<ExplosionCache.Key, Explosion.RayProfile[]> rayProfiles = Maps.newHashMap();
+   private final Map<ExplosionCache.Key, Float> exposures = Maps.newHashMap();
+   private int generation;
+
+   public void invalidate() {
+      ++this.generation;
+      if (!this.rayProfiles.isEmpty()) {
+         this.rayProfiles.clear();
+      }
+
+      if (!this.exposures.isEmpty()) {
+         this.exposures.clear();
+      }
+
+   }
+
+   public int getGeneration() {
+      return this.generation;
+   }
+
+   @Nullable
+   Explosion.RayProfile[] getRayProfiles(double pX, double pY, double pZ, float pRadius) {
+      return this.rayProfiles.get(new ExplosionCache.Key(pX, pY, pZ, pRadius, (AABB)null));
+   }
+
+   void putRayProfiles(double pX, double pY, double pZ, float pRadius, Explosion.RayProfile[] pProfiles) {
+      this.rayProfiles.put(new ExplosionCache.Key(pX, pY, pZ, pRadius, (AABB)null), pProfiles);
+   }
+
+   @Nullable
+   Float getExposure(double pX, double pY, double pZ, AABB pBox) {
+      return this.exposures.get(new ExplosionCache.Key(pX, pY, pZ, 0.0F, pBox));
+   }
+
+   void putExposure(double pX, double pY, double pZ, AABB pBox, float pExposure) {
+      this.exposures.put(new ExplosionCache.Key(pX, pY, pZ, 0.0F, pBox), pExposure);
+   }
+
+   static class Key {
+      private final double x;
+      private final double y;
+      private final double z;
+      private final float radius;
+      @Nullable
+      private final AABB box;
+
+      Key(double pX, double pY, double pZ, float pRadius, @Nullable AABB pBox) {
+         this.x = pX;
+         this.y = pY;
+         this.z = pZ;
+         this.radius = pRadius;
+         this.box = pBox;
+      }
+
+      public boolean equals(Object pOther) {
+         if (this == pOther) {
+            return true;
+         } else if (!(pOther instanceof ExplosionCache.Key)) {
+            return false;
+         } else {
+            ExplosionCache.Key explosioncache$key = (ExplosionCache.Key)pOther;
+            return Double.compare(this.x, explosioncache$key.x) == 0 && Double.compare(this.y, explosioncache$key.y) == 0 && Double.compare(this.z, explosioncache$key.z) == 0 && Float.compare(this.radius, explosioncache$key.radius) == 0 && Objects.equals(this.box, explosioncache$key.box);
+         }
+      }
+
+      public int hashCode() {
+         return Objects.hash(this.x, this.y, this.z, this.radius, this.box);
+      }
+   }
+}
\ No newline at end of file
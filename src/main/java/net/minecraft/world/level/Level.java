@@ -53,6 +53,7 @@ import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.entity.EntityTypeTest;
 import net.minecraft.world.level.entity.LevelEntityGetter;
 import net.minecraft.world.level.gameevent.GameEvent;
+import net.minecraft.world.level.gameevent.GameEventDispatcher;
 import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.lighting.LevelLightEngine;
 import net.minecraft.world.level.material.FluidState;
@@ -99,6 +100,7 @@ public abstract class Level implements LevelAccessor, AutoCloseable {
    private final WorldBorder worldBorder;
    private final BiomeManager biomeManager;
    private final ResourceKey<Level> dimension;
+   private int maxGameEventListenerRadius = -1;
 
    protected Level(WritableLevelData pLevelData, ResourceKey<Level> pDimension, final DimensionType pDimensionType, Supplier<ProfilerFiller> pProfiler, boolean pIsClientSide, boolean pIsDebug, long pBiomeZoomSeed) {
       this.profiler = pProfiler;
@@ -305,6 +307,12 @@ public abstract class Level implements LevelAccessor, AutoCloseable {
    public void neighborChanged(BlockPos pPos, Block pBlock, BlockPos pFromPos) {
       if (!this.isClientSide) {
          BlockState blockstate = this.getBlockState(pPos);
+         if (blockstate.hasBlockEntity()) {
+            BlockEntity blockentity = this.getBlockEntity(pPos);
+            if (blockentity != null) {
+               blockentity.wakeUp();
+            }
+         }
 
          try {
             blockstate.neighborChanged(this, pPos, pBlock, pFromPos, false);
@@ -563,6 +571,10 @@ public abstract class Level implements LevelAccessor, AutoCloseable {
       return list;
    }
 
+   public boolean hasEntitiesOfClass(Class<? extends Entity> pClazz, AABB pArea) {
+      return this.getEntities().hasAny(pClazz, pArea);
+   }
+
    @Nullable
    public abstract Entity getEntity(int pId);
 
@@ -864,24 +876,34 @@ public abstract class Level implements LevelAccessor, AutoCloseable {
 
    protected abstract LevelEntityGetter<Entity> getEntities();
 
+   public void updateMaxGameEventListenerRadius(int pRadius) {
+      this.maxGameEventListenerRadius = Math.max(this.maxGameEventListenerRadius, pRadius);
+   }
+
    protected void postGameEventInRadius(@Nullable Entity pEntity, GameEvent pGameEvent, BlockPos pPos, int pNotificationRadius) {
-      int i = SectionPos.blockToSectionCoord(pPos.getX() - pNotificationRadius);
-      int j = SectionPos.blockToSectionCoord(pPos.getZ() - pNotificationRadius);
-      int k = SectionPos.blockToSectionCoord(pPos.getX() + pNotificationRadius);
-      int l = SectionPos.blockToSectionCoord(pPos.getZ() + pNotificationRadius);
-      int i1 = SectionPos.blockToSectionCoord(pPos.getY() - pNotificationRadius);
-      int j1 = SectionPos.blockToSectionCoord(pPos.getY() + pNotificationRadius);
-
-      for(int k1 = i; k1 <= k; ++k1) {
-         for(int l1 = j; l1 <= l; ++l1) {
-            ChunkAccess chunkaccess = this.getChunkSource().getChunkNow(k1, l1);
-            if (chunkaccess != null) {
-               for(int i2 = i1; i2 <= j1; ++i2) {
-                  chunkaccess.getEventDispatcher(i2).post(pGameEvent, pEntity, pPos);
+      int i2 = Math.min(pNotificationRadius, this.maxGameEventListenerRadius);
+      if (i2 >= 0) {
+         int i = SectionPos.blockToSectionCoord(pPos.getX() - i2);
+         int j = SectionPos.blockToSectionCoord(pPos.getZ() - i2);
+         int k = SectionPos.blockToSectionCoord(pPos.getX() + i2);
+         int l = SectionPos.blockToSectionCoord(pPos.getZ() + i2);
+         int i1 = SectionPos.blockToSectionCoord(pPos.getY() - i2);
+         int j1 = SectionPos.blockToSectionCoord(pPos.getY() + i2);
+
+         for(int k1 = i; k1 <= k; ++k1) {
+            for(int l1 = j; l1 <= l; ++l1) {
+               LevelChunk levelchunk = this.getChunkSource().getChunkNow(k1, l1);
+               if (levelchunk != null) {
+                  for(int j2 = i1; j2 <= j1; ++j2) {
+                     GameEventDispatcher gameeventdispatcher = levelchunk.getExistingEventDispatcher(j2);
+                     if (gameeventdispatcher != null) {
+                        gameeventdispatcher.post(pGameEvent, pEntity, pPos);
+                     }
+                  }
                }
             }
          }
-      }
 
+      }
    }
 }
\ No newline at end of file
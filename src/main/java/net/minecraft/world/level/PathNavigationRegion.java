@@ -9,11 +9,15 @@ import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.ShulkerBoxBlockEntity;
+import net.minecraft.world.level.block.piston.PistonMovingBlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.border.WorldBorder;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.ChunkSource;
 import net.minecraft.world.level.chunk.EmptyLevelChunk;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.level.material.Fluids;
 import net.minecraft.world.phys.AABB;
@@ -22,30 +26,40 @@ import net.minecraft.world.phys.shapes.VoxelShape;
 public class PathNavigationRegion implements BlockGetter, CollisionGetter {
    protected final int centerX;
    protected final int centerZ;
-   protected final ChunkAccess[][] chunks;
+   protected final BlockGetter[][] chunks;
    protected boolean allEmpty;
    protected final Level level;
+   private boolean hasBlockEntityShapes;
 
    public PathNavigationRegion(Level pLevel, BlockPos pCenterPos, BlockPos pOffsetPos) {
+      this(pLevel, pCenterPos, pOffsetPos, false);
+   }
+
+   public PathNavigationRegion(Level pLevel, BlockPos pCenterPos, BlockPos pOffsetPos, boolean pSnapshot) {
       this.level = pLevel;
       this.centerX = SectionPos.blockToSectionCoord(pCenterPos.getX());
       this.centerZ = SectionPos.blockToSectionCoord(pCenterPos.getZ());
       int i = SectionPos.blockToSectionCoord(pOffsetPos.getX());
       int j = SectionPos.blockToSectionCoord(pOffsetPos.getZ());
-      this.chunks = new ChunkAccess[i - this.centerX + 1][j - this.centerZ + 1];
+      this.chunks = new BlockGetter[i - this.centerX + 1][j - this.centerZ + 1];
       ChunkSource chunksource = pLevel.getChunkSource();
       this.allEmpty = true;
 
       for(int k = this.centerX; k <= i; ++k) {
          for(int l = this.centerZ; l <= j; ++l) {
-            this.chunks[k - this.centerX][l - this.centerZ] = chunksource.getChunkNow(k, l);
+            LevelChunk levelchunk = chunksource.getChunkNow(k, l);
+            if (pSnapshot) {
+               this.chunks[k - this.centerX][l - this.centerZ] = levelchunk != null ? this.snapshotChunk(levelchunk, pCenterPos.getY(), pOffsetPos.getY()) : new EmptyLevelChunk(pLevel, new ChunkPos(k, l));
+            } else {
+               this.chunks[k - this.centerX][l - this.centerZ] = levelchunk;
+            }
          }
       }
 
       for(int i1 = SectionPos.blockToSectionCoord(pCenterPos.getX()); i1 <= SectionPos.blockToSectionCoord(pOffsetPos.getX()); ++i1) {
          for(int j1 = SectionPos.blockToSectionCoord(pCenterPos.getZ()); j1 <= SectionPos.blockToSectionCoord(pOffsetPos.getZ()); ++j1) {
-            ChunkAccess chunkaccess = this.chunks[i1 - this.centerX][j1 - this.centerZ];
-            if (chunkaccess != null && !chunkaccess.isYSpaceEmpty(pCenterPos.getY(), pOffsetPos.getY())) {
+            BlockGetter blockgetter = this.chunks[i1 - this.centerX][j1 - this.centerZ];
+            if (blockgetter instanceof ChunkAccess && !((ChunkAccess)blockgetter).isYSpaceEmpty(pCenterPos.getY(), pOffsetPos.getY()) || blockgetter instanceof PathNavigationRegion.SnapshotChunk && !((PathNavigationRegion.SnapshotChunk)blockgetter).isYSpaceEmpty(pCenterPos.getY(), pOffsetPos.getY())) {
                this.allEmpty = false;
                return;
             }
@@ -54,16 +68,48 @@ public class PathNavigationRegion implements BlockGetter, CollisionGetter {
 
    }
 
-   private ChunkAccess getChunk(BlockPos pPos) {
+   private PathNavigationRegion.SnapshotChunk snapshotChunk(LevelChunk pChunk, int pMinY, int pMaxY) {
+      LevelChunkSection[] alevelchunksection = pChunk.getSections();
+      LevelChunkSection[] alevelchunksection1 = new LevelChunkSection[alevelchunksection.length];
+      int i = Math.max(0, pChunk.getSectionIndex(pMinY) - 1);
+      int j = Math.min(alevelchunksection.length - 1, pChunk.getSectionIndex(pMaxY) + 1);
+
+      for(int k = i; k <= j; ++k) {
+         LevelChunkSection levelchunksection = alevelchunksection[k];
+         if (!LevelChunkSection.isEmpty(levelchunksection)) {
+            alevelchunksection1[k] = levelchunksection.getSnapshot();
+         }
+      }
+
+      if (!this.hasBlockEntityShapes) {
+         int l = SectionPos.sectionToBlockCoord(pChunk.getSectionYFromSectionIndex(i));
+         int i1 = SectionPos.sectionToBlockCoord(pChunk.getSectionYFromSectionIndex(j)) + 15;
+
+         for(BlockEntity blockentity : pChunk.getBlockEntities().values()) {
+            if ((blockentity instanceof ShulkerBoxBlockEntity || blockentity instanceof PistonMovingBlockEntity) && blockentity.getBlockPos().getY() >= l && blockentity.getBlockPos().getY() <= i1) {
+               this.hasBlockEntityShapes = true;
+               break;
+            }
+         }
+      }
+
+      return new PathNavigationRegion.SnapshotChunk(pChunk, alevelchunksection1);
+   }
+
+   public boolean canSearchAsync() {
+      return !this.hasBlockEntityShapes && !this.level.isDebug();
+   }
+
+   private BlockGetter getChunk(BlockPos pPos) {
       return this.getChunk(SectionPos.blockToSectionCoord(pPos.getX()), SectionPos.blockToSectionCoord(pPos.getZ()));
    }
 
-   private ChunkAccess getChunk(int pX, int pZ) {
+   private BlockGetter getChunk(int pX, int pZ) {
       int i = pX - this.centerX;
       int j = pZ - this.centerZ;
       if (i >= 0 && i < this.chunks.length && j >= 0 && j < this.chunks[i].length) {
-         ChunkAccess chunkaccess = this.chunks[i][j];
-         return (ChunkAccess)(chunkaccess != null ? chunkaccess : new EmptyLevelChunk(this.level, new ChunkPos(pX, pZ)));
+         BlockGetter blockgetter = this.chunks[i][j];
+         return (BlockGetter)(blockgetter != null ? blockgetter : new EmptyLevelChunk(this.level, new ChunkPos(pX, pZ)));
       } else {
          return new EmptyLevelChunk(this.level, new ChunkPos(pX, pZ));
       }
@@ -79,16 +125,16 @@ public class PathNavigationRegion implements BlockGetter, CollisionGetter {
 
    @Nullable
    public BlockEntity getBlockEntity(BlockPos pPos) {
-      ChunkAccess chunkaccess = this.getChunk(pPos);
-      return chunkaccess.getBlockEntity(pPos);
+      BlockGetter blockgetter = this.getChunk(pPos);
+      return blockgetter.getBlockEntity(pPos);
    }
 
    public BlockState getBlockState(BlockPos pPos) {
       if (this.isOutsideBuildHeight(pPos)) {
          return Blocks.AIR.defaultBlockState();
       } else {
-         ChunkAccess chunkaccess = this.getChunk(pPos);
-         return chunkaccess.getBlockState(pPos);
+         BlockGetter blockgetter = this.getChunk(pPos);
+         return blockgetter.getBlockState(pPos);
       }
    }
 
@@ -104,8 +150,8 @@ public class PathNavigationRegion implements BlockGetter, CollisionGetter {
       if (this.isOutsideBuildHeight(pPos)) {
          return Fluids.EMPTY.defaultFluidState();
       } else {
-         ChunkAccess chunkaccess = this.getChunk(pPos);
-         return chunkaccess.getFluidState(pPos);
+         BlockGetter blockgetter = this.getChunk(pPos);
+         return blockgetter.getFluidState(pPos);
       }
    }
 
@@ -120,4 +166,64 @@ public class PathNavigationRegion implements BlockGetter, CollisionGetter {
    public ProfilerFiller getProfiler() {
       return this.level.getProfiler();
    }
+
+   static class SnapshotChunk implements BlockGetter {
+      private final LevelHeightAccessor heightAccessor;
+      private final LevelChunkSection[] sections;
+
+      SnapshotChunk(LevelHeightAccessor pHeightAccessor, LevelChunkSection[] pSections) {
+         this.heightAccessor = pHeightAccessor;
+         this.sections = pSections;
+      }
+
+      @Nullable
+      public BlockEntity getBlockEntity(BlockPos pPos) {
+         return null;
+      }
+
+      public BlockState getBlockState(BlockPos pPos) {
+         int i = this.getSectionIndex(pPos.getY());
+         if (i >= 0 && i < this.sections.length) {
+            LevelChunkSection levelchunksection = this.sections[i];
+            if (!LevelChunkSection.isEmpty(levelchunksection)) {
+               return levelchunksection.getBlockState(pPos.getX() & 15, pPos.getY() & 15, pPos.getZ() & 15);
+            }
+         }
+
+         return Blocks.AIR.defaultBlockState();
+      }
+
+      public FluidState getFluidState(BlockPos pPos) {
+         int i = this.getSectionIndex(pPos.getY());
+         if (i >= 0 && i < this.sections.length) {
+            LevelChunkSection levelchunksection = this.sections[i];
+            if (!LevelChunkSection.isEmpty(levelchunksection)) {
+               return levelchunksection.getFluidState(pPos.getX() & 15, pPos.getY() & 15, pPos.getZ() & 15);
+            }
+         }
+
+         return Fluids.EMPTY.defaultFluidState();
+      }
+
+      boolean isYSpaceEmpty(int pStartY, int pEndY) {
+         int i = Math.max(pStartY, this.getMinBuildHeight());
+         int j = Math.min(pEndY, this.getMaxBuildHeight() - 1);
+
+         for(int k = i; k <= j; k += 16) {
+            if (!LevelChunkSection.isEmpty(this.sections[this.getSectionIndex(k)])) {
+               return false;
+            }
+         }
+
+         return true;
+      }
+
+      public int getHeight() {
+         return this.heightAccessor.getHeight();
+      }
+
+      public int getMinBuildHeight() {
+         return this.heightAccessor.getMinBuildHeight();
+      }
+   }
 }
\ No newline at end of file
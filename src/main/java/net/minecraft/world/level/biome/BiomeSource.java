@@ -8,11 +8,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
+import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.QuartPos;
 import net.minecraft.core.Registry;
@@ -21,6 +23,8 @@ import net.minecraft.world.level.levelgen.feature.StructureFeature;
 
 public abstract class BiomeSource implements BiomeManager.NoiseBiomeSource {
    public static final Codec<BiomeSource> CODEC = Registry.BIOME_SOURCE.dispatchStable(BiomeSource::codec, Function.identity());
+   private static final int SEARCH_BATCH_SIZE = 256;
+   private static final int SEARCH_STEP_SIZE = 4096;
    protected final Map<StructureFeature<?>, Boolean> supportedStructures = Maps.newHashMap();
    protected final Set<BlockState> surfaceBlocks = Sets.newHashSet();
    protected final List<Biome> possibleBiomes;
@@ -41,6 +45,15 @@ public abstract class BiomeSource implements BiomeManager.NoiseBiomeSource {
       return this.possibleBiomes;
    }
 
+   public void getNoiseBiomes(int pX, int pY, int pZ, int pSizeX, int pSizeZ, Biome[] pBiomes) {
+      for(int i = 0; i < pSizeZ; ++i) {
+         for(int j = 0; j < pSizeX; ++j) {
+            pBiomes[i * pSizeX + j] = this.getNoiseBiome(pX + j, pY, pZ + i);
+         }
+      }
+
+   }
+
    public Set<Biome> getBiomesWithin(int pX, int pY, int pZ, int pRadius) {
       int i = QuartPos.fromBlock(pX - pRadius);
       int j = QuartPos.fromBlock(pY - pRadius);
@@ -74,43 +87,79 @@ public abstract class BiomeSource implements BiomeManager.NoiseBiomeSource {
 
    @Nullable
    public BlockPos findBiomeHorizontal(int pX, int pY, int pZ, int pRadius, int pIncrement, Predicate<Biome> pBiomes, Random pRandom, boolean pFindClosest) {
-      int i = QuartPos.fromBlock(pX);
-      int j = QuartPos.fromBlock(pZ);
-      int k = QuartPos.fromBlock(pRadius);
-      int l = QuartPos.fromBlock(pY);
+      BiomeSource.BiomeSearch biomesource$biomesearch = new BiomeSource.BiomeSearch(pX, pY, pZ, pRadius, pIncrement, pFindClosest);
       BlockPos blockpos = null;
-      int i1 = 0;
-      int j1 = pFindClosest ? 0 : k;
-
-      for(int k1 = j1; k1 <= k; k1 += pIncrement) {
-         for(int l1 = -k1; l1 <= k1; l1 += pIncrement) {
-            boolean flag = Math.abs(l1) == k1;
-
-            for(int i2 = -k1; i2 <= k1; i2 += pIncrement) {
-               if (pFindClosest) {
-                  boolean flag1 = Math.abs(i2) == k1;
-                  if (!flag1 && !flag) {
-                     continue;
+      int i = 0;
+
+      while(biomesource$biomesearch.hasNext()) {
+         int j = biomesource$biomesearch.next();
+         boolean[] aboolean = this.testBiomes(biomesource$biomesearch, j, pBiomes).join();
+
+         for(int k = 0; k < j; ++k) {
+            if (aboolean[k]) {
+               if (blockpos == null || pRandom.nextInt(i + 1) == 0) {
+                  blockpos = biomesource$biomesearch.getPos(k);
+                  if (pFindClosest) {
+                     return blockpos;
                   }
                }
 
-               int k2 = i + i2;
-               int j2 = j + l1;
-               if (pBiomes.test(this.getNoiseBiome(k2, l, j2))) {
-                  if (blockpos == null || pRandom.nextInt(i1 + 1) == 0) {
-                     blockpos = new BlockPos(QuartPos.toBlock(k2), pY, QuartPos.toBlock(j2));
-                     if (pFindClosest) {
-                        return blockpos;
+               ++i;
+            }
+         }
+      }
+
+      return blockpos;
+   }
+
+   public CompletableFuture<BlockPos> findClosestBiomeHorizontal(int pX, int pY, int pZ, int pRadius, int pIncrement, Predicate<Biome> pBiomes) {
+      CompletableFuture<BlockPos> completablefuture = new CompletableFuture<>();
+      this.continueClosestBiomeSearch(new BiomeSource.BiomeSearch(pX, pY, pZ, pRadius, pIncrement, true), pBiomes, completablefuture);
+      return completablefuture;
+   }
+
+   private void continueClosestBiomeSearch(BiomeSource.BiomeSearch pSearch, Predicate<Biome> pBiomes, CompletableFuture<BlockPos> pResult) {
+      if (!pResult.isDone()) {
+         if (!pSearch.hasNext()) {
+            pResult.complete((BlockPos)null);
+         } else {
+            int i = pSearch.next();
+            this.testBiomes(pSearch, i, pBiomes).whenComplete((p_182034_, p_182035_) -> {
+               if (p_182035_ != null) {
+                  pResult.completeExceptionally(p_182035_);
+               } else {
+                  for(int j = 0; j < i; ++j) {
+                     if (p_182034_[j]) {
+                        pResult.complete(pSearch.getPos(j));
+                        return;
                      }
                   }
 
-                  ++i1;
+                  this.continueClosestBiomeSearch(pSearch, pBiomes, pResult);
                }
-            }
+            });
          }
       }
+   }
 
-      return blockpos;
+   private CompletableFuture<boolean[]> testBiomes(BiomeSource.BiomeSearch pSearch, int pCount, Predicate<Biome> pBiomes) {
+      boolean[] aboolean = new boolean[pCount];
+      CompletableFuture<?>[] acompletablefuture = new CompletableFuture[(pCount + SEARCH_BATCH_SIZE - 1) / SEARCH_BATCH_SIZE];
+
+      for(int i = 0; i < acompletablefuture.length; ++i) {
+         int j = i * SEARCH_BATCH_SIZE;
+         int k = Math.min(j + SEARCH_BATCH_SIZE, pCount);
+         acompletablefuture[i] = CompletableFuture.runAsync(() -> {
+            for(int l = j; l < k; ++l) {
+               aboolean[l] = pBiomes.test(this.getNoiseBiome(pSearch.quartX[l], pSearch.quartY, pSearch.quartZ[l]));
+            }
+
+         }, Util.backgroundExecutor());
+      }
+
+      return CompletableFuture.allOf(acompletablefuture).thenApply((p_182036_) -> {
+         return aboolean;
+      });
    }
 
    public boolean canGenerateStructure(StructureFeature<?> pStructure) {
@@ -138,4 +187,71 @@ public abstract class BiomeSource implements BiomeManager.NoiseBiomeSource {
       Registry.register(Registry.BIOME_SOURCE, "vanilla_layered", OverworldBiomeSource.CODEC);
       Registry.register(Registry.BIOME_SOURCE, "the_end", TheEndBiomeSource.CODEC);
    }
+
+   static class BiomeSearch {
+      final int[] quartX = new int[SEARCH_STEP_SIZE];
+      final int[] quartZ = new int[SEARCH_STEP_SIZE];
+      final int quartY;
+      private final int centerX;
+      private final int centerZ;
+      private final int y;
+      private final int radius;
+      private final int increment;
+      private final boolean findClosest;
+      private int ring;
+      private int row;
+      private int column;
+
+      BiomeSearch(int pX, int pY, int pZ, int pRadius, int pIncrement, boolean pFindClosest) {
+         this.centerX = QuartPos.fromBlock(pX);
+         this.centerZ = QuartPos.fromBlock(pZ);
+         this.quartY = QuartPos.fromBlock(pY);
+         this.y = pY;
+         this.radius = QuartPos.fromBlock(pRadius);
+         this.increment = pIncrement;
+         this.findClosest = pFindClosest;
+         this.ring = pFindClosest ? 0 : this.radius;
+         this.row = -this.ring;
+         this.column = -this.ring;
+      }
+
+      boolean hasNext() {
+         return this.ring <= this.radius;
+      }
+
+      int next() {
+         int i = 0;
+
+         while(i < SEARCH_STEP_SIZE && this.ring <= this.radius) {
+            boolean flag = Math.abs(this.row) == this.ring;
+            if (!this.findClosest || flag || Math.abs(this.column) == this.ring) {
+               this.quartX[i] = this.centerX + this.column;
+               this.quartZ[i] = this.centerZ + this.row;
+               ++i;
+            }
+
+            if (this.findClosest && !flag && this.column == -this.ring) {
+               this.column = this.ring;
+            } else {
+               this.column += this.increment;
+            }
+
+            if (this.column > this.ring) {
+               this.row += this.increment;
+               if (this.row > this.ring) {
+                  this.ring += this.increment;
+                  this.row = -this.ring;
+               }
+
+               this.column = -this.ring;
+            }
+         }
+
+         return i;
+      }
+
+      BlockPos getPos(int pIndex) {
+         return new BlockPos(QuartPos.toBlock(this.quartX[pIndex]), this.y, QuartPos.toBlock(this.quartZ[pIndex]));
+      }
+   }
 }
\ No newline at end of file
@@ -54,4 +54,8 @@ public class OverworldBiomeSource extends BiomeSource {
    public Biome getNoiseBiome(int pX, int pY, int pZ) {
       return this.noiseBiomeLayer.get(this.biomes, pX, pZ);
    }
+
+   public void getNoiseBiomes(int pX, int pY, int pZ, int pSizeX, int pSizeZ, Biome[] pBiomes) {
+      this.noiseBiomeLayer.fill(this.biomes, pX, pZ, pSizeX, pSizeZ, pBiomes);
+   }
 }
\ No newline at end of file
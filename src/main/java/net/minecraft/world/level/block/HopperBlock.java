@@ -135,6 +135,11 @@ public class HopperBlock extends BaseEntityBlock {
    }
 
    public void neighborChanged(BlockState pState, Level pLevel, BlockPos pPos, Block pBlock, BlockPos pFromPos, boolean pIsMoving) {
+      BlockEntity blockentity = pLevel.getBlockEntity(pPos);
+      if (blockentity instanceof HopperBlockEntity) {
+         ((HopperBlockEntity)blockentity).invalidateContainerCache();
+      }
+
       this.checkPoweredState(pLevel, pPos, pState);
    }
 
@@ -285,6 +285,10 @@ public abstract class AbstractFurnaceBlockEntity extends BaseContainerBlockEntit
          setChanged(pLevel, pPos, pState);
       }
 
+      if (!pBlockEntity.isLit() && pBlockEntity.cookingProgress == 0 && (itemstack.isEmpty() || pBlockEntity.items.get(0).isEmpty())) {
+         pBlockEntity.sleep();
+      }
+
    }
 
    private static boolean canBurn(@Nullable Recipe<?> p_155006_, NonNullList<ItemStack> p_155007_, int p_155008_) {
@@ -402,6 +406,7 @@ public abstract class AbstractFurnaceBlockEntity extends BaseContainerBlockEntit
          pStack.setCount(this.getMaxStackSize());
       }
 
+      this.wakeUp();
       if (pIndex == 0 && !flag) {
          this.cookingTotalTime = getTotalCookTime(this.level, this.recipeType, this);
          this.cookingProgress = 0;
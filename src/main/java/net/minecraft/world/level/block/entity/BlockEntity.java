@@ -20,6 +20,7 @@ public abstract class BlockEntity {
    protected final BlockPos worldPosition;
    protected boolean remove;
    private BlockState blockState;
+   private long sleepUntil;
 
    public BlockEntity(BlockEntityType<?> pType, BlockPos pWorldPosition, BlockState pBlockState) {
       this.type = pType;
@@ -41,6 +42,7 @@ public abstract class BlockEntity {
    }
 
    public void load(CompoundTag pTag) {
+      this.wakeUp();
    }
 
    public CompoundTag save(CompoundTag pTag) {
@@ -91,6 +93,7 @@ public abstract class BlockEntity {
    }
 
    public void setChanged() {
+      this.wakeUp();
       if (this.level != null) {
          setChanged(this.level, this.worldPosition, this.blockState);
       }
@@ -159,5 +162,22 @@ public abstract class BlockEntity {
    @Deprecated
    public void setBlockState(BlockState pBlockState) {
       this.blockState = pBlockState;
+      this.wakeUp();
+   }
+
+   protected void sleep() {
+      this.sleepUntil = Long.MAX_VALUE;
+   }
+
+   protected void sleepUntil(long pGameTime) {
+      this.sleepUntil = pGameTime;
+   }
+
+   public void wakeUp() {
+      this.sleepUntil = 0L;
+   }
+
+   public boolean isSleeping(long pGameTime) {
+      return this.sleepUntil > pGameTime;
    }
 }
\ No newline at end of file
@@ -132,6 +132,10 @@ public class BrewingStandBlockEntity extends BaseContainerBlockEntity implements
          pLevel.setBlock(pPos, blockstate, 2);
       }
 
+      if (pBlockEntity.brewTime == 0 && (pBlockEntity.fuel > 0 || !pBlockEntity.items.get(4).is(Items.BLAZE_POWDER)) && (pBlockEntity.fuel <= 0 || !isBrewable(pBlockEntity.items))) {
+         pBlockEntity.sleep();
+      }
+
    }
 
    private boolean[] getPotionBits() {
@@ -216,6 +220,7 @@ public class BrewingStandBlockEntity extends BaseContainerBlockEntity implements
    public void setItem(int pIndex, ItemStack pStack) {
       if (pIndex >= 0 && pIndex < this.items.size()) {
          this.items.set(pIndex, pStack);
+         this.wakeUp();
       }
 
    }
@@ -55,6 +55,8 @@ public class CampfireBlockEntity extends BlockEntity implements Clearable {
 
       if (flag) {
          setChanged(pLevel, pPos, pState);
+      } else {
+         pBlockEntity.sleep();
       }
 
    }
@@ -71,6 +73,8 @@ public class CampfireBlockEntity extends BlockEntity implements Clearable {
 
       if (flag) {
          setChanged(pLevel, pPos, pState);
+      } else {
+         pBlockEntity.sleep();
       }
 
    }
@@ -1,8 +1,9 @@
 package net.minecraft.world.level.block.entity;
 
+import com.google.common.collect.Lists;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.BooleanSupplier;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javax.annotation.Nullable;
 import net.minecraft.core.BlockPos;
@@ -20,6 +21,7 @@ import net.minecraft.world.entity.EntitySelector;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.entity.vehicle.AbstractMinecartContainer;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.inventory.HopperMenu;
 import net.minecraft.world.item.ItemStack;
@@ -31,6 +33,7 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.shapes.BooleanOp;
 import net.minecraft.world.phys.shapes.Shapes;
+import net.minecraft.world.phys.shapes.VoxelShape;
 
 public class HopperBlockEntity extends RandomizableContainerBlockEntity implements Hopper {
    public static final int MOVE_ITEM_SPEED = 8;
@@ -38,6 +41,8 @@ public class HopperBlockEntity extends RandomizableContainerBlockEntity implemen
    private NonNullList<ItemStack> items = NonNullList.withSize(5, ItemStack.EMPTY);
    private int cooldownTime = -1;
    private long tickedGameTime;
+   private final HopperBlockEntity.ContainerCache attachedContainerCache = new HopperBlockEntity.ContainerCache();
+   private final HopperBlockEntity.ContainerCache sourceContainerCache = new HopperBlockEntity.ContainerCache();
 
    public HopperBlockEntity(BlockPos pWorldPosition, BlockState pBlockState) {
       super(BlockEntityType.HOPPER, pWorldPosition, pBlockState);
@@ -132,8 +137,8 @@ public class HopperBlockEntity extends RandomizableContainerBlockEntity implemen
       return true;
    }
 
-   private static boolean ejectItems(Level pLevel, BlockPos pPos, BlockState pState, Container pSourceContainer) {
-      Container container = getAttachedContainer(pLevel, pPos, pState);
+   private static boolean ejectItems(Level pLevel, BlockPos pPos, BlockState pState, HopperBlockEntity pSourceContainer) {
+      Container container = getAttachedContainer(pLevel, pPos, pState, pSourceContainer);
       if (container == null) {
          return false;
       } else {
@@ -296,20 +301,37 @@ public class HopperBlockEntity extends RandomizableContainerBlockEntity implemen
    }
 
    @Nullable
-   private static Container getAttachedContainer(Level p_155593_, BlockPos p_155594_, BlockState p_155595_) {
+   private static Container getAttachedContainer(Level p_155593_, BlockPos p_155594_, BlockState p_155595_, HopperBlockEntity pHopper) {
       Direction direction = p_155595_.getValue(HopperBlock.FACING);
-      return getContainerAt(p_155593_, p_155594_.relative(direction));
+      return pHopper.attachedContainerCache.getContainerAt(p_155593_, p_155594_.relative(direction));
    }
 
    @Nullable
    private static Container getSourceContainer(Level p_155597_, Hopper p_155598_) {
-      return getContainerAt(p_155597_, p_155598_.getLevelX(), p_155598_.getLevelY() + 1.0D, p_155598_.getLevelZ());
+      if (p_155598_ instanceof HopperBlockEntity) {
+         HopperBlockEntity hopperblockentity = (HopperBlockEntity)p_155598_;
+         return hopperblockentity.sourceContainerCache.getContainerAt(p_155597_, hopperblockentity.getBlockPos().above());
+      } else {
+         return getContainerAt(p_155597_, p_155598_.getLevelX(), p_155598_.getLevelY() + 1.0D, p_155598_.getLevelZ());
+      }
    }
 
    public static List<ItemEntity> getItemsAtAndAbove(Level p_155590_, Hopper p_155591_) {
-      return p_155591_.getSuckShape().toAabbs().stream().flatMap((p_155558_) -> {
-         return p_155590_.getEntitiesOfClass(ItemEntity.class, p_155558_.move(p_155591_.getLevelX() - 0.5D, p_155591_.getLevelY() - 0.5D, p_155591_.getLevelZ() - 0.5D), EntitySelector.ENTITY_STILL_ALIVE).stream();
-      }).collect(Collectors.toList());
+      double d0 = p_155591_.getLevelX() - 0.5D;
+      double d1 = p_155591_.getLevelY() - 0.5D;
+      double d2 = p_155591_.getLevelZ() - 0.5D;
+      VoxelShape voxelshape = p_155591_.getSuckShape();
+      if (!p_155590_.hasEntitiesOfClass(ItemEntity.class, voxelshape.bounds().move(d0, d1, d2))) {
+         return Collections.emptyList();
+      } else {
+         List<ItemEntity> list = Lists.newArrayList();
+
+         for(AABB aabb : voxelshape.toAabbs()) {
+            list.addAll(p_155590_.getEntitiesOfClass(ItemEntity.class, aabb.move(d0, d1, d2), EntitySelector.ENTITY_STILL_ALIVE));
+         }
+
+         return list;
+      }
    }
 
    @Nullable
@@ -336,9 +358,12 @@ public class HopperBlockEntity extends RandomizableContainerBlockEntity implemen
       }
 
       if (container == null) {
-         List<Entity> list = pLevel.getEntities((Entity)null, new AABB(pX - 0.5D, pY - 0.5D, pZ - 0.5D, pX + 0.5D, pY + 0.5D, pZ + 0.5D), EntitySelector.CONTAINER_ENTITY_SELECTOR);
-         if (!list.isEmpty()) {
-            container = (Container)list.get(pLevel.random.nextInt(list.size()));
+         AABB aabb = new AABB(pX - 0.5D, pY - 0.5D, pZ - 0.5D, pX + 0.5D, pY + 0.5D, pZ + 0.5D);
+         if (pLevel.hasEntitiesOfClass(AbstractMinecartContainer.class, aabb)) {
+            List<Entity> list = pLevel.getEntities((Entity)null, aabb, EntitySelector.CONTAINER_ENTITY_SELECTOR);
+            if (!list.isEmpty()) {
+               container = (Container)list.get(pLevel.random.nextInt(list.size()));
+            }
          }
       }
 
@@ -381,6 +406,11 @@ public class HopperBlockEntity extends RandomizableContainerBlockEntity implemen
       return this.cooldownTime > 8;
    }
 
+   public void invalidateContainerCache() {
+      this.attachedContainerCache.invalidate();
+      this.sourceContainerCache.invalidate();
+   }
+
    protected NonNullList<ItemStack> getItems() {
       return this.items;
    }
@@ -401,4 +431,34 @@ public class HopperBlockEntity extends RandomizableContainerBlockEntity implemen
    protected AbstractContainerMenu createMenu(int pId, Inventory pPlayer) {
       return new HopperMenu(pId, pPlayer, this);
    }
+
+   static class ContainerCache {
+      @Nullable
+      private BlockEntity blockEntity;
+      @Nullable
+      private BlockState blockState;
+
+      @Nullable
+      Container getContainerAt(Level pLevel, BlockPos pPos) {
+         BlockState blockstate = pLevel.getBlockState(pPos);
+         if (this.blockEntity != null && this.blockState == blockstate && !this.blockEntity.isRemoved() && this.blockEntity.getBlockPos().equals(pPos)) {
+            return (Container)this.blockEntity;
+         } else {
+            Container container = HopperBlockEntity.getContainerAt(pLevel, pPos);
+            if (container instanceof BlockEntity && ((BlockEntity)container).getBlockPos().equals(pPos)) {
+               this.blockEntity = (BlockEntity)container;
+               this.blockState = blockstate;
+            } else {
+               this.invalidate();
+            }
+
+            return container;
+         }
+      }
+
+      void invalidate() {
+         this.blockEntity = null;
+         this.blockState = null;
+      }
+   }
 }
\ No newline at end of file
@@ -58,6 +58,7 @@ import net.minecraft.world.level.storage.loot.LootContext;
 import net.minecraft.world.level.storage.loot.LootTable;
 import net.minecraft.world.level.storage.loot.parameters.LootContextParamSets;
 import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.phys.shapes.CollisionContext;
@@ -539,6 +540,15 @@ public abstract class BlockBehaviour {
          return this.getBlock().getCollisionShape(this.asState(), pLevel, pPos, pContext);
       }
 
+      @Nullable
+      public AABB[] getCollisionBoxes(VoxelShape pShape) {
+         return this.cache != null && this.cache.collisionShape == pShape ? this.cache.collisionBoxes : null;
+      }
+
+      public boolean hasSingleCollisionBox(VoxelShape pShape) {
+         return this.cache != null && this.cache.collisionShape == pShape && this.cache.singleCollisionBox;
+      }
+
       public VoxelShape getBlockSupportShape(BlockGetter pLevel, BlockPos pPos) {
          return this.getBlock().getBlockSupportShape(this.asState(), pLevel, pPos);
       }
@@ -748,6 +758,8 @@ public abstract class BlockBehaviour {
          @Nullable
          final VoxelShape[] occlusionShapes;
          protected final VoxelShape collisionShape;
+         final AABB[] collisionBoxes;
+         final boolean singleCollisionBox;
          protected final boolean largeCollisionShape;
          private final boolean[] faceSturdy;
          protected final boolean isCollisionShapeFullBlock;
@@ -772,6 +784,8 @@ public abstract class BlockBehaviour {
             if (!this.collisionShape.isEmpty() && block.getOffsetType() != BlockBehaviour.OffsetType.NONE) {
                throw new IllegalStateException(String.format("%s has a collision shape and an offset type, but is not marked as dynamicShape in its properties.", Registry.BLOCK.getKey(block)));
             } else {
+               this.collisionBoxes = this.collisionShape.toAabbs().toArray(new AABB[0]);
+               this.singleCollisionBox = this.collisionBoxes.length == 1;
                this.largeCollisionShape = Arrays.stream(Direction.Axis.values()).anyMatch((p_60860_) -> {
                   return this.collisionShape.min(p_60860_) < 0.0D || this.collisionShape.max(p_60860_) > 1.0D;
                });
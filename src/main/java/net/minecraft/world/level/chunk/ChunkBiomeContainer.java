@@ -64,14 +64,22 @@ public class ChunkBiomeContainer implements BiomeManager.NoiseBiomeSource {
       int i = QuartPos.fromBlock(pPos.getMinBlockX());
       int j = this.quartMinY;
       int k = QuartPos.fromBlock(pPos.getMinBlockZ());
+      Biome[] abiome = new Biome[1 << WIDTH_BITS + WIDTH_BITS];
+      int l = -1;
 
-      for(int l = 0; l < this.biomes.length; ++l) {
-         if (pBiomes != null && l < pBiomes.length) {
-            this.biomes[l] = pBiomeRegistry.byId(pBiomes[l]);
+      for(int i1 = 0; i1 < this.biomes.length; ++i1) {
+         if (pBiomes != null && i1 < pBiomes.length) {
+            this.biomes[i1] = pBiomeRegistry.byId(pBiomes[i1]);
          }
 
-         if (this.biomes[l] == null) {
-            this.biomes[l] = generateBiomeForIndex(pBiomeSource, i, j, k, l);
+         if (this.biomes[i1] == null) {
+            int j1 = i1 >> WIDTH_BITS + WIDTH_BITS;
+            if (j1 != l) {
+               pBiomeSource.getNoiseBiomes(i, j + j1, k, 1 << WIDTH_BITS, 1 << WIDTH_BITS, abiome);
+               l = j1;
+            }
+
+            this.biomes[i1] = abiome[i1 & abiome.length - 1];
          }
       }
 
@@ -81,13 +89,6 @@ public class ChunkBiomeContainer implements BiomeManager.NoiseBiomeSource {
       return (p_156141_ + p_156142_ - 1) / p_156142_;
    }
 
-   private static Biome generateBiomeForIndex(BiomeSource pSource, int pX, int pY, int pZ, int pIndex) {
-      int i = pIndex & HORIZONTAL_MASK;
-      int j = pIndex >> WIDTH_BITS + WIDTH_BITS;
-      int k = pIndex >> WIDTH_BITS & HORIZONTAL_MASK;
-      return pSource.getNoiseBiome(pX + i, pY + j, pZ + k);
-   }
-
    public int[] writeBiomes() {
       int[] aint = new int[this.biomes.length];
 
@@ -166,6 +166,11 @@ public class LevelChunk implements ChunkAccess {
       });
    }
 
+   @Nullable
+   public GameEventDispatcher getExistingEventDispatcher(int pSectionY) {
+      return this.gameEventDispatcherSections.get(pSectionY);
+   }
+
    public Heightmap getOrCreateHeightmapUnprimed(Heightmap.Types pType) {
       return this.heightmaps.computeIfAbsent(pType, (p_62908_) -> {
          return new Heightmap(this, p_62908_);
@@ -244,6 +249,19 @@ public class LevelChunk implements ChunkAccess {
       }
    }
 
+   private void invalidatePathTypes(int pY) {
+      int i = Math.max(0, this.getSectionIndex(pY - 1));
+      int j = Math.min(this.sections.length - 1, this.getSectionIndex(pY + 1));
+
+      for(int k = i; k <= j; ++k) {
+         LevelChunkSection levelchunksection = this.sections[k];
+         if (levelchunksection != EMPTY_SECTION) {
+            levelchunksection.invalidatePathTypes();
+         }
+      }
+
+   }
+
    @Nullable
    public BlockState setBlockState(BlockPos pPos, BlockState pState, boolean pIsMoving) {
       int i = pPos.getY();
@@ -271,6 +289,7 @@ public class LevelChunk implements ChunkAccess {
          this.heightmaps.get(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES).update(k, i, i1, pState);
          this.heightmaps.get(Heightmap.Types.OCEAN_FLOOR).update(k, i, i1, pState);
          this.heightmaps.get(Heightmap.Types.WORLD_SURFACE).update(k, i, i1, pState);
+         this.invalidatePathTypes(i);
          boolean flag1 = levelchunksection.isEmpty();
          if (flag != flag1) {
             this.level.getChunkSource().getLightEngine().updateSectionStatus(pPos, flag1);
@@ -823,10 +842,16 @@ public class LevelChunk implements ChunkAccess {
       public void tick() {
          if (!this.blockEntity.isRemoved() && this.blockEntity.hasLevel()) {
             BlockPos blockpos = this.blockEntity.getBlockPos();
-            if (LevelChunk.this.isTicking(blockpos)) {
+            if (this.blockEntity.isSleeping(LevelChunk.this.level.getGameTime())) {
+               ProfilerFiller profilerfiller = LevelChunk.this.level.getProfiler();
+               profilerfiller.push(this::getType);
+               profilerfiller.incrementCounter("sleeping");
+               profilerfiller.pop();
+            } else if (LevelChunk.this.isTicking(blockpos)) {
                try {
                   ProfilerFiller profilerfiller = LevelChunk.this.level.getProfiler();
                   profilerfiller.push(this::getType);
+                  profilerfiller.incrementCounter("active");
                   BlockState blockstate = LevelChunk.this.getBlockState(blockpos);
                   if (this.blockEntity.getType().isValid(blockstate)) {
                      this.ticker.tick(LevelChunk.this.level, this.blockEntity.getBlockPos(), blockstate, this.blockEntity);
@@ -1,5 +1,6 @@
 package net.minecraft.world.level.chunk;
 
+import io.netty.buffer.Unpooled;
 import java.util.function.Predicate;
 import javax.annotation.Nullable;
 import net.minecraft.nbt.NbtUtils;
@@ -8,17 +9,24 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.level.pathfinder.BlockPathTypes;
 
 public class LevelChunkSection {
    public static final int SECTION_WIDTH = 16;
    public static final int SECTION_HEIGHT = 16;
    public static final int SECTION_SIZE = 4096;
    private static final Palette<BlockState> GLOBAL_BLOCKSTATE_PALETTE = new GlobalPalette<>(Block.BLOCK_STATE_REGISTRY, Blocks.AIR.defaultBlockState());
+   private static final BlockPathTypes[] PATH_TYPES = BlockPathTypes.values();
    private final int bottomBlockY;
    private short nonEmptyBlockCount;
    private short tickingBlockCount;
    private short tickingFluidCount;
    private final PalettedContainer<BlockState> states;
+   @Nullable
+   private byte[] pathTypes;
+   @Nullable
+   private LevelChunkSection snapshot;
+   private boolean isSnapshot;
 
    public LevelChunkSection(int pSectionY) {
       this(pSectionY, (short)0, (short)0, (short)0);
@@ -88,9 +96,61 @@ public class LevelChunkSection {
          ++this.tickingFluidCount;
       }
 
+      if (blockstate != pState) {
+         this.pathTypes = null;
+         this.snapshot = null;
+      }
+
       return blockstate;
    }
 
+   @Nullable
+   public BlockPathTypes getCachedPathType(int pX, int pY, int pZ) {
+      byte[] abyte = this.pathTypes;
+      if (abyte == null) {
+         return null;
+      } else {
+         int i = abyte[getIndex(pX, pY, pZ)];
+         return i == 0 ? null : PATH_TYPES[i - 1];
+      }
+   }
+
+   public void setCachedPathType(int pX, int pY, int pZ, BlockPathTypes pType) {
+      byte[] abyte = this.pathTypes;
+      if (abyte == null) {
+         abyte = new byte[4096];
+         this.pathTypes = abyte;
+      }
+
+      abyte[getIndex(pX, pY, pZ)] = (byte)(pType.ordinal() + 1);
+   }
+
+   public boolean canCachePathTypes() {
+      return !this.isSnapshot;
+   }
+
+   public void invalidatePathTypes() {
+      this.pathTypes = null;
+   }
+
+   public LevelChunkSection getSnapshot() {
+      LevelChunkSection levelchunksection = this.snapshot;
+      if (levelchunksection == null) {
+         FriendlyByteBuf friendlybytebuf = new FriendlyByteBuf(Unpooled.buffer(this.getSerializedSize()));
+         this.write(friendlybytebuf);
+         levelchunksection = new LevelChunkSection(this.bottomBlockY >> 4);
+         levelchunksection.read(friendlybytebuf);
+         levelchunksection.isSnapshot = true;
+         this.snapshot = levelchunksection;
+      }
+
+      return levelchunksection;
+   }
+
+   private static int getIndex(int pX, int pY, int pZ) {
+      return pY << 8 | pZ << 4 | pX;
+   }
+
    public boolean isEmpty() {
       return this.nonEmptyBlockCount == 0;
    }
@@ -145,6 +205,8 @@ public class LevelChunkSection {
    public void read(FriendlyByteBuf pBuffer) {
       this.nonEmptyBlockCount = pBuffer.readShort();
       this.states.read(pBuffer);
+      this.pathTypes = null;
+      this.snapshot = null;
    }
 
    public void write(FriendlyByteBuf pBuffer) {
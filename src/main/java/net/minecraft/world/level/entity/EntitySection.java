@@ -1,16 +1,25 @@
 package net.minecraft.world.level.entity;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
+import net.minecraft.core.Registry;
 import net.minecraft.util.ClassInstanceMultiMap;
 import net.minecraft.util.VisibleForDebug;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 public class EntitySection<T> {
    protected static final Logger LOGGER = LogManager.getLogger();
+   private static final List<?>[] NO_TYPES = new List[0];
    private final ClassInstanceMultiMap<T> storage;
+   private List<T>[] byType = (List<T>[])NO_TYPES;
+   private long[] typeMask = new long[0];
    private Visibility chunkStatus;
 
    public EntitySection(Class<T> p_156831_, Visibility p_156832_) {
@@ -18,14 +27,51 @@ public class EntitySection<T> {
       this.storage = new ClassInstanceMultiMap<>(p_156831_);
    }
 
+   public static int getTypeId(EntityTypeTest<?, ?> pTypeTest) {
+      return pTypeTest instanceof EntityType ? Registry.ENTITY_TYPE.getId((EntityType<?>)pTypeTest) : -1;
+   }
+
+   private static int getTypeId(Object pEntity) {
+      return pEntity instanceof Entity ? Registry.ENTITY_TYPE.getId(((Entity)pEntity).getType()) : -1;
+   }
+
    public void add(T p_156841_) {
       this.storage.add(p_156841_);
+      int i = getTypeId(p_156841_);
+      if (i >= 0) {
+         if (i >= this.byType.length) {
+            this.byType = Arrays.copyOf(this.byType, i + 1);
+            this.typeMask = Arrays.copyOf(this.typeMask, (i >> 6) + 1);
+         }
+
+         List<T> list = this.byType[i];
+         if (list == null) {
+            list = new ArrayList<>();
+            this.byType[i] = list;
+         }
+
+         list.add(p_156841_);
+         this.typeMask[i >> 6] |= 1L << i;
+      }
+
    }
 
    public boolean remove(T p_156847_) {
+      int i = getTypeId(p_156847_);
+      if (i >= 0 && i < this.byType.length) {
+         List<T> list = this.byType[i];
+         if (list != null && list.remove(p_156847_) && list.isEmpty()) {
+            this.typeMask[i >> 6] &= ~(1L << i);
+         }
+      }
+
       return this.storage.remove(p_156847_);
    }
 
+   public boolean hasAnyOfType(int pTypeId) {
+      return pTypeId >= 0 && (pTypeId >> 6) < this.typeMask.length && (this.typeMask[pTypeId >> 6] & 1L << pTypeId) != 0L;
+   }
+
    public void getEntities(Predicate<? super T> p_156843_, Consumer<T> p_156844_) {
       for(T t : this.storage) {
          if (p_156843_.test(t)) {
@@ -36,15 +82,34 @@ public class EntitySection<T> {
    }
 
    public <U extends T> void getEntities(EntityTypeTest<T, U> p_156835_, Predicate<? super U> p_156836_, Consumer<? super U> p_156837_) {
-      for(T t : this.storage.find(p_156835_.getBaseClass())) {
-         U u = (U)p_156835_.tryCast(t);
-         if (u != null && p_156836_.test(u)) {
-            p_156837_.accept(u);
+      this.getEntities(p_156835_, getTypeId(p_156835_), p_156836_, p_156837_);
+   }
+
+   public <U extends T> void getEntities(EntityTypeTest<T, U> pTypeTest, int pTypeId, Predicate<? super U> pPredicate, Consumer<? super U> pConsumer) {
+      if (pTypeId >= 0) {
+         if (this.hasAnyOfType(pTypeId)) {
+            for(T t : this.byType[pTypeId]) {
+               U u = (U)pTypeTest.tryCast(t);
+               if (u != null && pPredicate.test(u)) {
+                  pConsumer.accept(u);
+               }
+            }
+         }
+      } else {
+         for(T t1 : this.storage.find(pTypeTest.getBaseClass())) {
+            U u1 = (U)pTypeTest.tryCast(t1);
+            if (u1 != null && pPredicate.test(u1)) {
+               pConsumer.accept(u1);
+            }
          }
       }
 
    }
 
+   public boolean hasAnyOfClass(Class<? extends T> pClazz) {
+      return !this.storage.find(pClazz).isEmpty();
+   }
+
    public boolean isEmpty() {
       return this.storage.isEmpty();
    }
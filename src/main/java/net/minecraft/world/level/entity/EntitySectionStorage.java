@@ -23,6 +23,7 @@ import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.phys.AABB;
 
 public class EntitySectionStorage<T extends EntityAccess> {
+   private static final int MAX_DIRECT_LOOKUPS = 256;
    private final Class<T> entityClass;
    private final Long2ObjectFunction<Visibility> intialSectionVisibility;
    private final Long2ObjectMap<EntitySection<T>> sections = new Long2ObjectOpenHashMap<>();
@@ -40,6 +41,10 @@ public class EntitySectionStorage<T extends EntityAccess> {
       int l = SectionPos.posToSectionCoord(pBoundingBox.maxX + 2.0D);
       int i1 = SectionPos.posToSectionCoord(pBoundingBox.maxY + 2.0D);
       int j1 = SectionPos.posToSectionCoord(pBoundingBox.maxZ + 2.0D);
+      if ((long)(l - i + 1) * (long)(i1 - j + 1) * (long)(j1 - k + 1) <= (long)MAX_DIRECT_LOOKUPS) {
+         this.forEachAccessibleSectionDirect(i, j, k, l, i1, j1, pSection);
+         return;
+      }
 
       for(int k1 = i; k1 <= l; ++k1) {
          long l1 = SectionPos.asLong(k1, 0, 0);
@@ -61,6 +66,53 @@ public class EntitySectionStorage<T extends EntityAccess> {
 
    }
 
+   private void forEachAccessibleSectionDirect(int pMinX, int pMinY, int pMinZ, int pMaxX, int pMaxY, int pMaxZ, Consumer<EntitySection<T>> pSection) {
+      int i = pMinZ < 0 && pMaxZ >= 0 ? 0 : pMinZ;
+      int j = pMinY < 0 && pMaxY >= 0 ? 0 : pMinY;
+
+      for(int k = pMinX; k <= pMaxX; ++k) {
+         int l = i;
+
+         for(int i1 = 0; i1 <= pMaxZ - pMinZ; ++i1) {
+            int j1 = j;
+
+            for(int k1 = 0; k1 <= pMaxY - pMinY; ++k1) {
+               EntitySection<T> entitysection = this.sections.get(SectionPos.asLong(k, j1, l));
+               if (entitysection != null && entitysection.getStatus().isAccessible()) {
+                  pSection.accept(entitysection);
+               }
+
+               j1 = j1 == pMaxY ? pMinY : j1 + 1;
+            }
+
+            l = l == pMaxZ ? pMinZ : l + 1;
+         }
+      }
+
+   }
+
+   public boolean hasAnyEntitiesOfClass(Class<? extends T> pClazz, AABB pBoundingBox) {
+      int i = SectionPos.posToSectionCoord(pBoundingBox.minX - 2.0D);
+      int j = SectionPos.posToSectionCoord(pBoundingBox.minY - 2.0D);
+      int k = SectionPos.posToSectionCoord(pBoundingBox.minZ - 2.0D);
+      int l = SectionPos.posToSectionCoord(pBoundingBox.maxX + 2.0D);
+      int i1 = SectionPos.posToSectionCoord(pBoundingBox.maxY + 2.0D);
+      int j1 = SectionPos.posToSectionCoord(pBoundingBox.maxZ + 2.0D);
+
+      for(int k1 = i; k1 <= l; ++k1) {
+         for(int l1 = k; l1 <= j1; ++l1) {
+            for(int i2 = j; i2 <= i1; ++i2) {
+               EntitySection<T> entitysection = this.sections.get(SectionPos.asLong(k1, i2, l1));
+               if (entitysection != null && entitysection.getStatus().isAccessible() && entitysection.hasAnyOfClass(pClazz)) {
+                  return true;
+               }
+            }
+         }
+      }
+
+      return false;
+   }
+
    public LongStream getExistingSectionPositionsInChunk(long p_156862_) {
       int i = ChunkPos.getX(p_156862_);
       int j = ChunkPos.getZ(p_156862_);
@@ -124,8 +176,10 @@ public class EntitySectionStorage<T extends EntityAccess> {
    }
 
    public <U extends T> void getEntities(EntityTypeTest<T, U> p_156864_, AABB p_156865_, Consumer<U> p_156866_) {
+      int i = EntitySection.getTypeId(p_156864_);
+      Predicate<T> predicate = createBoundingBoxCheck(p_156865_);
       this.forEachAccessibleSection(p_156865_, (p_156871_) -> {
-         p_156871_.getEntities(p_156864_, createBoundingBoxCheck(p_156865_), p_156866_);
+         p_156871_.getEntities(p_156864_, i, predicate, p_156866_);
       });
    }
 
@@ -19,4 +19,6 @@ public interface LevelEntityGetter<T extends EntityAccess> {
    void get(AABB p_156937_, Consumer<T> p_156938_);
 
    <U extends T> void get(EntityTypeTest<T, U> p_156932_, AABB p_156933_, Consumer<U> p_156934_);
+
+   boolean hasAny(Class<? extends T> pClazz, AABB pBoundingBox);
 }
\ No newline at end of file
@@ -39,4 +39,8 @@ public class LevelEntityGetterAdapter<T extends EntityAccess> implements LevelEn
    public <U extends T> void get(EntityTypeTest<T, U> p_156949_, AABB p_156950_, Consumer<U> p_156951_) {
       this.sectionStorage.getEntities(p_156949_, p_156950_, p_156951_);
    }
+
+   public boolean hasAny(Class<? extends T> pClazz, AABB pBoundingBox) {
+      return this.sectionStorage.hasAnyEntitiesOfClass(pClazz, pBoundingBox);
+   }
 }
\ No newline at end of file
@@ -10,7 +10,7 @@ import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
 
 public class EuclideanGameEventDispatcher implements GameEventDispatcher {
-   private final List<GameEventListener> listeners = Lists.newArrayList();
+   private final List<EuclideanGameEventDispatcher.IndexedListener> listeners = Lists.newArrayList();
    private final Level level;
 
    public EuclideanGameEventDispatcher(Level pLevel) {
@@ -22,19 +22,27 @@ public class EuclideanGameEventDispatcher implements GameEventDispatcher {
    }
 
    public void register(GameEventListener pListener) {
-      this.listeners.add(pListener);
+      this.listeners.add(new EuclideanGameEventDispatcher.IndexedListener(pListener));
+      this.level.updateMaxGameEventListenerRadius(pListener.getListenerRadius());
       DebugPackets.sendGameEventListenerInfo(this.level, pListener);
    }
 
    public void unregister(GameEventListener pListener) {
-      this.listeners.remove(pListener);
+      for(int i = 0; i < this.listeners.size(); ++i) {
+         if (this.listeners.get(i).listener.equals(pListener)) {
+            this.listeners.remove(i);
+            break;
+         }
+      }
+
    }
 
    public void post(GameEvent pEvent, @Nullable Entity pEntity, BlockPos pPos) {
       boolean flag = false;
 
-      for(GameEventListener gameeventlistener : this.listeners) {
-         if (this.postToListener(this.level, pEvent, pEntity, pPos, gameeventlistener)) {
+      for(int i = 0; i < this.listeners.size(); ++i) {
+         EuclideanGameEventDispatcher.IndexedListener euclideangameeventdispatcher$indexedlistener = this.listeners.get(i);
+         if (euclideangameeventdispatcher$indexedlistener.isInRange(this.level, pPos) && euclideangameeventdispatcher$indexedlistener.listener.handleGameEvent(this.level, pEvent, pEntity, pPos)) {
             flag = true;
          }
       }
@@ -45,14 +53,31 @@ public class EuclideanGameEventDispatcher implements GameEventDispatcher {
 
    }
 
-   private boolean postToListener(Level pLevel, GameEvent pEvent, @Nullable Entity pEntity, BlockPos pPos, GameEventListener pListener) {
-      Optional<BlockPos> optional = pListener.getListenerSource().getPosition(pLevel);
-      if (!optional.isPresent()) {
-         return false;
-      } else {
-         double d0 = optional.get().distSqr(pPos, false);
-         int i = pListener.getListenerRadius() * pListener.getListenerRadius();
-         return d0 <= (double)i && pListener.handleGameEvent(pLevel, pEvent, pEntity, pPos);
+   static class IndexedListener {
+      final GameEventListener listener;
+      private final int radiusSqr;
+      @Nullable
+      private final BlockPos fixedPos;
+
+      IndexedListener(GameEventListener pListener) {
+         this.listener = pListener;
+         this.radiusSqr = pListener.getListenerRadius() * pListener.getListenerRadius();
+         PositionSource positionsource = pListener.getListenerSource();
+         this.fixedPos = positionsource instanceof BlockPositionSource ? ((BlockPositionSource)positionsource).pos.orElse((BlockPos)null) : null;
+      }
+
+      boolean isInRange(Level pLevel, BlockPos pPos) {
+         BlockPos blockpos = this.fixedPos;
+         if (blockpos == null) {
+            Optional<BlockPos> optional = this.listener.getListenerSource().getPosition(pLevel);
+            if (!optional.isPresent()) {
+               return false;
+            }
+
+            blockpos = optional.get();
+         }
+
+         return blockpos.distSqr(pPos, false) <= (double)this.radiusSqr;
       }
    }
 }
\ No newline at end of file
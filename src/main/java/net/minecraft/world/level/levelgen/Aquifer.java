@@ -36,6 +36,17 @@ public interface Aquifer {
 
    boolean shouldScheduleFluidUpdate();
 
+   default void computeColumn(BaseStoneSource pStoneSource, int pX, int pMaxY, int pZ, double[] pNoise, BlockState[] pStates, boolean[] pScheduleFluidUpdates, int pCount) {
+      for(int i = 0; i < pCount; ++i) {
+         pStates[i] = this.computeState(pStoneSource, pX, pMaxY - i, pZ, pNoise[i]);
+         pScheduleFluidUpdates[i] = this.shouldScheduleFluidUpdate();
+      }
+
+   }
+
+   default void release() {
+   }
+
    public static class NoiseBasedAquifer implements Aquifer {
       private static final int X_RANGE = 10;
       private static final int Y_RANGE = 9;
@@ -46,12 +57,18 @@ public interface Aquifer {
       private static final int X_SPACING = 16;
       private static final int Y_SPACING = 12;
       private static final int Z_SPACING = 16;
+      private static final ThreadLocal<Aquifer.NoiseBasedAquifer.Grid> GRID_POOL = new ThreadLocal<>();
       private final NormalNoise barrierNoise;
       private final NormalNoise waterLevelNoise;
       private final NormalNoise lavaNoise;
       private final NoiseGeneratorSettings noiseGeneratorSettings;
+      private final Aquifer.NoiseBasedAquifer.Grid grid;
       private final Aquifer.NoiseBasedAquifer.AquiferStatus[] aquiferCache;
       private final long[] aquiferLocationCache;
+      private final Aquifer.NoiseBasedAquifer.AquiferStatus seaLevelStatus;
+      private int cellX = Integer.MIN_VALUE;
+      private int cellY = Integer.MIN_VALUE;
+      private int cellZ = Integer.MIN_VALUE;
       private boolean shouldScheduleFluidUpdate;
       private final NoiseSampler sampler;
       private final int minGridX;
@@ -76,9 +93,29 @@ public interface Aquifer {
          int l = this.gridZ(pChunkPos.getMaxBlockZ()) + 1;
          this.gridSizeZ = l - this.minGridZ + 1;
          int i1 = this.gridSizeX * k * this.gridSizeZ;
-         this.aquiferCache = new Aquifer.NoiseBasedAquifer.AquiferStatus[i1];
-         this.aquiferLocationCache = new long[i1];
-         Arrays.fill(this.aquiferLocationCache, Long.MAX_VALUE);
+         this.grid = acquireGrid(i1);
+         this.aquiferCache = this.grid.statuses;
+         this.aquiferLocationCache = this.grid.locations;
+         this.seaLevelStatus = new Aquifer.NoiseBasedAquifer.AquiferStatus(pNoiseGeneratorSettings.seaLevel(), Blocks.WATER.defaultBlockState());
+      }
+
+      private static Aquifer.NoiseBasedAquifer.Grid acquireGrid(int pSize) {
+         Aquifer.NoiseBasedAquifer.Grid aquifer$noisebasedaquifer$grid = GRID_POOL.get();
+         if (aquifer$noisebasedaquifer$grid != null && aquifer$noisebasedaquifer$grid.locations.length >= pSize) {
+            GRID_POOL.set((Aquifer.NoiseBasedAquifer.Grid)null);
+            aquifer$noisebasedaquifer$grid.reset(pSize);
+            return aquifer$noisebasedaquifer$grid;
+         } else {
+            return new Aquifer.NoiseBasedAquifer.Grid(pSize);
+         }
+      }
+
+      public void release() {
+         Aquifer.NoiseBasedAquifer.Grid aquifer$noisebasedaquifer$grid = GRID_POOL.get();
+         if (aquifer$noisebasedaquifer$grid == null || aquifer$noisebasedaquifer$grid.locations.length < this.grid.locations.length) {
+            GRID_POOL.set(this.grid);
+         }
+
       }
 
       private int getIndex(int pGridX, int pGridY, int pGridZ) {
@@ -101,57 +138,45 @@ public interface Aquifer {
                int i = Math.floorDiv(pX - 5, 16);
                int j = Math.floorDiv(pY + 1, 12);
                int k = Math.floorDiv(pZ - 5, 16);
+               if (i != this.cellX || j != this.cellY || k != this.cellZ) {
+                  this.selectCell(i, j, k);
+               }
+
+               long[] along = this.grid.cellLocations;
                int l = Integer.MAX_VALUE;
                int i1 = Integer.MAX_VALUE;
                int j1 = Integer.MAX_VALUE;
-               long k1 = 0L;
-               long l1 = 0L;
-               long i2 = 0L;
-
-               for(int j2 = 0; j2 <= 1; ++j2) {
-                  for(int k2 = -1; k2 <= 1; ++k2) {
-                     for(int l2 = 0; l2 <= 1; ++l2) {
-                        int i3 = i + j2;
-                        int j3 = j + k2;
-                        int k3 = k + l2;
-                        int l3 = this.getIndex(i3, j3, k3);
-                        long j4 = this.aquiferLocationCache[l3];
-                        long i4;
-                        if (j4 != Long.MAX_VALUE) {
-                           i4 = j4;
-                        } else {
-                           WorldgenRandom worldgenrandom = new WorldgenRandom(Mth.getSeed(i3, j3 * 3, k3) + 1L);
-                           i4 = BlockPos.asLong(i3 * 16 + worldgenrandom.nextInt(10), j3 * 12 + worldgenrandom.nextInt(9), k3 * 16 + worldgenrandom.nextInt(10));
-                           this.aquiferLocationCache[l3] = i4;
-                        }
-
-                        int j5 = BlockPos.getX(i4) - pX;
-                        int k4 = BlockPos.getY(i4) - pY;
-                        int l4 = BlockPos.getZ(i4) - pZ;
-                        int i5 = j5 * j5 + k4 * k4 + l4 * l4;
-                        if (l >= i5) {
-                           i2 = l1;
-                           l1 = k1;
-                           k1 = i4;
-                           j1 = i1;
-                           i1 = l;
-                           l = i5;
-                        } else if (i1 >= i5) {
-                           i2 = l1;
-                           l1 = i4;
-                           j1 = i1;
-                           i1 = i5;
-                        } else if (j1 >= i5) {
-                           i2 = i4;
-                           j1 = i5;
-                        }
-                     }
+               int k1 = 0;
+               int l1 = 0;
+               int i2 = 0;
+
+               for(int j2 = 0; j2 < along.length; ++j2) {
+                  long k2 = along[j2];
+                  int l2 = BlockPos.getX(k2) - pX;
+                  int i3 = BlockPos.getY(k2) - pY;
+                  int j3 = BlockPos.getZ(k2) - pZ;
+                  int k3 = l2 * l2 + i3 * i3 + j3 * j3;
+                  if (l >= k3) {
+                     i2 = l1;
+                     l1 = k1;
+                     k1 = j2;
+                     j1 = i1;
+                     i1 = l;
+                     l = k3;
+                  } else if (i1 >= k3) {
+                     i2 = l1;
+                     l1 = j2;
+                     j1 = i1;
+                     i1 = k3;
+                  } else if (j1 >= k3) {
+                     i2 = j2;
+                     j1 = k3;
                   }
                }
 
-               Aquifer.NoiseBasedAquifer.AquiferStatus aquifer$noisebasedaquifer$aquiferstatus = this.getAquiferStatus(k1);
-               Aquifer.NoiseBasedAquifer.AquiferStatus aquifer$noisebasedaquifer$aquiferstatus1 = this.getAquiferStatus(l1);
-               Aquifer.NoiseBasedAquifer.AquiferStatus aquifer$noisebasedaquifer$aquiferstatus2 = this.getAquiferStatus(i2);
+               Aquifer.NoiseBasedAquifer.AquiferStatus aquifer$noisebasedaquifer$aquiferstatus = this.getAquiferStatus(this.grid.cellIndices[k1], along[k1]);
+               Aquifer.NoiseBasedAquifer.AquiferStatus aquifer$noisebasedaquifer$aquiferstatus1 = this.getAquiferStatus(this.grid.cellIndices[l1], along[l1]);
+               Aquifer.NoiseBasedAquifer.AquiferStatus aquifer$noisebasedaquifer$aquiferstatus2 = this.getAquiferStatus(this.grid.cellIndices[i2], along[i2]);
                double d6 = this.similarity(l, i1);
                double d7 = this.similarity(l, j1);
                double d8 = this.similarity(i1, j1);
@@ -185,6 +210,36 @@ public interface Aquifer {
          return pStoneSource.getBaseBlock(pX, pY, pZ);
       }
 
+      private void selectCell(int pGridX, int pGridY, int pGridZ) {
+         this.cellX = pGridX;
+         this.cellY = pGridY;
+         this.cellZ = pGridZ;
+         int i = 0;
+
+         for(int j = 0; j <= 1; ++j) {
+            for(int k = -1; k <= 1; ++k) {
+               for(int l = 0; l <= 1; ++l) {
+                  int i1 = pGridX + j;
+                  int j1 = pGridY + k;
+                  int k1 = pGridZ + l;
+                  int l1 = this.getIndex(i1, j1, k1);
+                  long i2 = this.aquiferLocationCache[l1];
+                  if (i2 == Long.MAX_VALUE) {
+                     WorldgenRandom worldgenrandom = this.grid.random;
+                     worldgenrandom.setSeed(Mth.getSeed(i1, j1 * 3, k1) + 1L);
+                     i2 = BlockPos.asLong(i1 * 16 + worldgenrandom.nextInt(10), j1 * 12 + worldgenrandom.nextInt(9), k1 * 16 + worldgenrandom.nextInt(10));
+                     this.aquiferLocationCache[l1] = i2;
+                  }
+
+                  this.grid.cellLocations[i] = i2;
+                  this.grid.cellIndices[i] = l1;
+                  ++i;
+               }
+            }
+         }
+
+      }
+
       public boolean shouldScheduleFluidUpdate() {
          return this.shouldScheduleFluidUpdate;
       }
@@ -221,28 +276,20 @@ public interface Aquifer {
          return Math.floorDiv(pZ, 16);
       }
 
-      private Aquifer.NoiseBasedAquifer.AquiferStatus getAquiferStatus(long pPackedPos) {
-         int i = BlockPos.getX(pPackedPos);
-         int j = BlockPos.getY(pPackedPos);
-         int k = BlockPos.getZ(pPackedPos);
-         int l = this.gridX(i);
-         int i1 = this.gridY(j);
-         int j1 = this.gridZ(k);
-         int k1 = this.getIndex(l, i1, j1);
-         Aquifer.NoiseBasedAquifer.AquiferStatus aquifer$noisebasedaquifer$aquiferstatus = this.aquiferCache[k1];
+      private Aquifer.NoiseBasedAquifer.AquiferStatus getAquiferStatus(int pIndex, long pPackedPos) {
+         Aquifer.NoiseBasedAquifer.AquiferStatus aquifer$noisebasedaquifer$aquiferstatus = this.aquiferCache[pIndex];
          if (aquifer$noisebasedaquifer$aquiferstatus != null) {
             return aquifer$noisebasedaquifer$aquiferstatus;
          } else {
-            Aquifer.NoiseBasedAquifer.AquiferStatus aquifer$noisebasedaquifer$aquiferstatus1 = this.computeAquifer(i, j, k);
-            this.aquiferCache[k1] = aquifer$noisebasedaquifer$aquiferstatus1;
+            Aquifer.NoiseBasedAquifer.AquiferStatus aquifer$noisebasedaquifer$aquiferstatus1 = this.computeAquifer(BlockPos.getX(pPackedPos), BlockPos.getY(pPackedPos), BlockPos.getZ(pPackedPos));
+            this.aquiferCache[pIndex] = aquifer$noisebasedaquifer$aquiferstatus1;
             return aquifer$noisebasedaquifer$aquiferstatus1;
          }
       }
 
       private Aquifer.NoiseBasedAquifer.AquiferStatus computeAquifer(int pX, int pY, int pZ) {
-         int i = this.noiseGeneratorSettings.seaLevel();
          if (pY > 30) {
-            return new Aquifer.NoiseBasedAquifer.AquiferStatus(i, Blocks.WATER.defaultBlockState());
+            return this.seaLevelStatus;
          } else {
             int j = 64;
             int k = -10;
@@ -264,6 +311,25 @@ public interface Aquifer {
          }
       }
 
+      static final class Grid {
+         final Aquifer.NoiseBasedAquifer.AquiferStatus[] statuses;
+         final long[] locations;
+         final long[] cellLocations = new long[12];
+         final int[] cellIndices = new int[12];
+         final WorldgenRandom random = new WorldgenRandom();
+
+         Grid(int pSize) {
+            this.statuses = new Aquifer.NoiseBasedAquifer.AquiferStatus[pSize];
+            this.locations = new long[pSize];
+            Arrays.fill(this.locations, Long.MAX_VALUE);
+         }
+
+         void reset(int pSize) {
+            Arrays.fill(this.statuses, 0, pSize, (Object)null);
+            Arrays.fill(this.locations, 0, pSize, Long.MAX_VALUE);
+         }
+      }
+
       static final class AquiferStatus {
          final int fluidLevel;
          final BlockState fluidType;
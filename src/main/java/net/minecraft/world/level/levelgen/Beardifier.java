@@ -2,7 +2,7 @@ package net.minecraft.world.level.levelgen;
 
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import it.unimi.dsi.fastutil.objects.ObjectList;
-import it.unimi.dsi.fastutil.objects.ObjectListIterator;
+import java.util.Arrays;
 import net.minecraft.Util;
 import net.minecraft.core.SectionPos;
 import net.minecraft.util.Mth;
@@ -31,17 +31,30 @@ public class Beardifier {
       }
 
    });
-   private final ObjectList<StructurePiece> rigids;
-   private final ObjectList<JigsawJunction> junctions;
-   private final ObjectListIterator<StructurePiece> pieceIterator;
-   private final ObjectListIterator<JigsawJunction> junctionIterator;
+   private static final int BURY_RADIUS = 6;
+   private static final double[] BURY_KERNEL = Util.make(new double[864], (p_182039_) -> {
+      for(int i = 0; i < 6; ++i) {
+         for(int j = 0; j < 24; ++j) {
+            for(int k = 0; k < 6; ++k) {
+               p_182039_[i * 24 * 6 + j * 6 + k] = computeBuryContribution(i, j - 12, k);
+            }
+         }
+      }
+
+   });
+   private static final int CELL_WIDTH = 4;
+   private static final int CELL_COUNT = 4;
+   private final int minX;
+   private final int minZ;
+   private final Beardifier.Cell[] cells;
+   private final Beardifier.Cell outside;
 
    protected Beardifier(StructureFeatureManager pStructureFeatureManager, ChunkAccess pChunk) {
       ChunkPos chunkpos = pChunk.getPos();
       int i = chunkpos.getMinBlockX();
       int j = chunkpos.getMinBlockZ();
-      this.junctions = new ObjectArrayList<>(32);
-      this.rigids = new ObjectArrayList<>(10);
+      ObjectList<Beardifier.Rigid> objectlist = new ObjectArrayList<>(10);
+      ObjectList<JigsawJunction> objectlist1 = new ObjectArrayList<>(32);
 
       for(StructureFeature<?> structurefeature : StructureFeature.NOISE_AFFECTING_FEATURES) {
          pStructureFeatureManager.startsForFeature(SectionPos.bottomOf(pChunk), structurefeature).forEach((p_158080_) -> {
@@ -50,19 +63,19 @@ public class Beardifier {
                   if (structurepiece instanceof PoolElementStructurePiece) {
                      PoolElementStructurePiece poolelementstructurepiece = (PoolElementStructurePiece)structurepiece;
                      StructureTemplatePool.Projection structuretemplatepool$projection = poolelementstructurepiece.getElement().getProjection();
-                     if (structuretemplatepool$projection == StructureTemplatePool.Projection.RIGID) {
-                        this.rigids.add(poolelementstructurepiece);
+                     if (structuretemplatepool$projection == StructureTemplatePool.Projection.RIGID && poolelementstructurepiece.getNoiseEffect() != NoiseEffect.NONE) {
+                        objectlist.add(new Beardifier.Rigid(poolelementstructurepiece, poolelementstructurepiece.getGroundLevelDelta()));
                      }
 
                      for(JigsawJunction jigsawjunction : poolelementstructurepiece.getJunctions()) {
                         int k = jigsawjunction.getSourceX();
                         int l = jigsawjunction.getSourceZ();
                         if (k > i - 12 && l > j - 12 && k < i + 15 + 12 && l < j + 15 + 12) {
-                           this.junctions.add(jigsawjunction);
+                           objectlist1.add(jigsawjunction);
                         }
                      }
-                  } else {
-                     this.rigids.add(structurepiece);
+                  } else if (structurepiece.getNoiseEffect() != NoiseEffect.NONE) {
+                     objectlist.add(new Beardifier.Rigid(structurepiece, 0));
                   }
                }
             }
@@ -70,49 +83,46 @@ public class Beardifier {
          });
       }
 
-      this.pieceIterator = this.rigids.iterator();
-      this.junctionIterator = this.junctions.iterator();
+      this.minX = i;
+      this.minZ = j;
+      this.cells = new Beardifier.Cell[CELL_COUNT * CELL_COUNT];
+
+      for(int i1 = 0; i1 < CELL_COUNT; ++i1) {
+         for(int j1 = 0; j1 < CELL_COUNT; ++j1) {
+            int k1 = i + j1 * CELL_WIDTH;
+            int l1 = j + i1 * CELL_WIDTH;
+            this.cells[i1 * CELL_COUNT + j1] = new Beardifier.Cell(objectlist, objectlist1, k1, l1, k1 + CELL_WIDTH - 1, l1 + CELL_WIDTH - 1);
+         }
+      }
+
+      this.outside = new Beardifier.Cell(objectlist, objectlist1, Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
    }
 
    private Beardifier() {
-      this.junctions = new ObjectArrayList<>();
-      this.rigids = new ObjectArrayList<>();
-      this.pieceIterator = this.rigids.iterator();
-      this.junctionIterator = this.junctions.iterator();
+      this.minX = 0;
+      this.minZ = 0;
+      this.outside = new Beardifier.Cell(new ObjectArrayList<>(), new ObjectArrayList<>(), Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+      this.cells = new Beardifier.Cell[CELL_COUNT * CELL_COUNT];
+      Arrays.fill(this.cells, this.outside);
    }
 
    protected double beardifyOrBury(int pX, int pY, int pZ) {
-      double d0 = 0.0D;
-
-      while(this.pieceIterator.hasNext()) {
-         StructurePiece structurepiece = this.pieceIterator.next();
-         BoundingBox boundingbox = structurepiece.getBoundingBox();
-         int i = Math.max(0, Math.max(boundingbox.minX() - pX, pX - boundingbox.maxX()));
-         int j = pY - (boundingbox.minY() + (structurepiece instanceof PoolElementStructurePiece ? ((PoolElementStructurePiece)structurepiece).getGroundLevelDelta() : 0));
-         int k = Math.max(0, Math.max(boundingbox.minZ() - pZ, pZ - boundingbox.maxZ()));
-         NoiseEffect noiseeffect = structurepiece.getNoiseEffect();
-         if (noiseeffect == NoiseEffect.BURY) {
-            d0 += getBuryContribution(i, j, k);
-         } else if (noiseeffect == NoiseEffect.BEARD) {
-            d0 += getBeardContribution(i, j, k) * 0.8D;
-         }
-      }
-
-      this.pieceIterator.back(this.rigids.size());
+      int i = Math.floorDiv(pX - this.minX, CELL_WIDTH);
+      int j = Math.floorDiv(pZ - this.minZ, CELL_WIDTH);
+      Beardifier.Cell beardifier$cell = i >= 0 && i < CELL_COUNT && j >= 0 && j < CELL_COUNT ? this.cells[j * CELL_COUNT + i] : this.outside;
+      return beardifier$cell.beardifyOrBury(pX, pY, pZ);
+   }
 
-      while(this.junctionIterator.hasNext()) {
-         JigsawJunction jigsawjunction = this.junctionIterator.next();
-         int l = pX - jigsawjunction.getSourceX();
-         int i1 = pY - jigsawjunction.getSourceGroundY();
-         int j1 = pZ - jigsawjunction.getSourceZ();
-         d0 += getBeardContribution(l, i1, j1) * 0.4D;
+   private static double getBuryContribution(int pX, int pY, int pZ) {
+      int i = pY + 12;
+      if (pX < 6 && pZ < 6) {
+         return i >= 0 && i < 24 ? BURY_KERNEL[pX * 24 * 6 + i * 6 + pZ] : 0.0D;
+      } else {
+         return 0.0D;
       }
-
-      this.junctionIterator.back(this.junctions.size());
-      return d0;
    }
 
-   private static double getBuryContribution(int pX, int pY, int pZ) {
+   private static double computeBuryContribution(int pX, int pY, int pZ) {
       double d0 = Mth.length(pX, (double)pY / 2.0D, pZ);
       return Mth.clampedMap(d0, 0.0D, 6.0D, 1.0D, 0.0D);
    }
@@ -140,4 +150,89 @@ public class Beardifier {
       double d4 = -d1 * Mth.fastInvSqrt(d2 / 2.0D + d0 / 2.0D) / 2.0D;
       return d4 * d3;
    }
+
+   static class Cell {
+      private final Beardifier.Rigid[] rigids;
+      private final JigsawJunction[] junctions;
+      private final int minY;
+      private final int maxY;
+
+      Cell(ObjectList<Beardifier.Rigid> pRigids, ObjectList<JigsawJunction> pJunctions, int pMinX, int pMinZ, int pMaxX, int pMaxZ) {
+         ObjectList<Beardifier.Rigid> objectlist = new ObjectArrayList<>();
+         ObjectList<JigsawJunction> objectlist1 = new ObjectArrayList<>();
+         int i = Integer.MAX_VALUE;
+         int j = Integer.MIN_VALUE;
+
+         for(Beardifier.Rigid beardifier$rigid : pRigids) {
+            int k = beardifier$rigid.bury ? BURY_RADIUS : BEARD_KERNEL_RADIUS;
+            if (beardifier$rigid.minX - k < pMaxX && pMinX < beardifier$rigid.maxX + k && beardifier$rigid.minZ - k < pMaxZ && pMinZ < beardifier$rigid.maxZ + k) {
+               objectlist.add(beardifier$rigid);
+               i = Math.min(i, beardifier$rigid.groundY - 12);
+               j = Math.max(j, beardifier$rigid.groundY + 12 - 1);
+            }
+         }
+
+         for(JigsawJunction jigsawjunction : pJunctions) {
+            int l = jigsawjunction.getSourceX();
+            int i1 = jigsawjunction.getSourceZ();
+            if (l - 12 <= pMaxX && l + 12 > pMinX && i1 - 12 <= pMaxZ && i1 + 12 > pMinZ) {
+               objectlist1.add(jigsawjunction);
+               i = Math.min(i, jigsawjunction.getSourceGroundY() - 12);
+               j = Math.max(j, jigsawjunction.getSourceGroundY() + 12 - 1);
+            }
+         }
+
+         this.rigids = objectlist.toArray(new Beardifier.Rigid[0]);
+         this.junctions = objectlist1.toArray(new JigsawJunction[0]);
+         this.minY = i;
+         this.maxY = j;
+      }
+
+      double beardifyOrBury(int pX, int pY, int pZ) {
+         if (pY >= this.minY && pY <= this.maxY) {
+            double d0 = 0.0D;
+
+            for(Beardifier.Rigid beardifier$rigid : this.rigids) {
+               int i = Math.max(0, Math.max(beardifier$rigid.minX - pX, pX - beardifier$rigid.maxX));
+               int j = pY - beardifier$rigid.groundY;
+               int k = Math.max(0, Math.max(beardifier$rigid.minZ - pZ, pZ - beardifier$rigid.maxZ));
+               if (beardifier$rigid.bury) {
+                  d0 += getBuryContribution(i, j, k);
+               } else {
+                  d0 += getBeardContribution(i, j, k) * 0.8D;
+               }
+            }
+
+            for(JigsawJunction jigsawjunction : this.junctions) {
+               int l = pX - jigsawjunction.getSourceX();
+               int i1 = pY - jigsawjunction.getSourceGroundY();
+               int j1 = pZ - jigsawjunction.getSourceZ();
+               d0 += getBeardContribution(l, i1, j1) * 0.4D;
+            }
+
+            return d0;
+         } else {
+            return 0.0D;
+         }
+      }
+   }
+
+   static class Rigid {
+      final int minX;
+      final int maxX;
+      final int minZ;
+      final int maxZ;
+      final int groundY;
+      final boolean bury;
+
+      Rigid(StructurePiece pPiece, int pGroundLevelDelta) {
+         BoundingBox boundingbox = pPiece.getBoundingBox();
+         this.minX = boundingbox.minX();
+         this.maxX = boundingbox.maxX();
+         this.minZ = boundingbox.minZ();
+         this.maxZ = boundingbox.maxZ();
+         this.groundY = boundingbox.minY() + pGroundLevelDelta;
+         this.bury = pPiece.getNoiseEffect() == NoiseEffect.BURY;
+      }
+   }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import it.unimi.dsi.fastutil.longs.Long2IntLinkedOpenHashMap;
 import java.util.List;
 import java.util.OptionalInt;
 import java.util.Random;
@@ -59,6 +60,8 @@ public final class NoiseBasedChunkGenerator extends ChunkGenerator {
    });
    private static final BlockState AIR = Blocks.AIR.defaultBlockState();
    private static final BlockState[] EMPTY_COLUMN = new BlockState[0];
+   private static final int SLAB_HEIGHT = 64;
+   private static final int HEIGHT_CACHE_SIZE = 4096;
    private final int cellHeight;
    private final int cellWidth;
    final int cellCountX;
@@ -77,6 +80,7 @@ public final class NoiseBasedChunkGenerator extends ChunkGenerator {
    private final BaseStoneSource baseStoneSource;
    final OreVeinifier oreVeinifier;
    final NoodleCavifier noodleCavifier;
+   private final Long2IntLinkedOpenHashMap[] heightCaches = new Long2IntLinkedOpenHashMap[Heightmap.Types.values().length];
 
    public NoiseBasedChunkGenerator(BiomeSource p_64337_, long p_64338_, Supplier<NoiseGeneratorSettings> p_64339_) {
       this(p_64337_, p_64337_, p_64338_, p_64339_);
@@ -124,6 +128,12 @@ public final class NoiseBasedChunkGenerator extends ChunkGenerator {
       this.baseStoneSource = new DepthBasedReplacingBaseStoneSource(pSeed, this.defaultBlock, Blocks.DEEPSLATE.defaultBlockState(), noisegeneratorsettings);
       this.oreVeinifier = new OreVeinifier(pSeed, this.defaultBlock, this.cellWidth, this.cellHeight, noisegeneratorsettings.noiseSettings().minY());
       this.noodleCavifier = new NoodleCavifier(pSeed);
+
+      for(int i = 0; i < this.heightCaches.length; ++i) {
+         this.heightCaches[i] = new Long2IntLinkedOpenHashMap(HEIGHT_CACHE_SIZE);
+         this.heightCaches[i].defaultReturnValue(Integer.MAX_VALUE);
+      }
+
    }
 
    private boolean isAquifersEnabled() {
@@ -158,7 +168,31 @@ public final class NoiseBasedChunkGenerator extends ChunkGenerator {
       int j = Math.min(this.settings.get().noiseSettings().minY() + this.settings.get().noiseSettings().height(), pLevel.getMaxBuildHeight());
       int k = Mth.intFloorDiv(i, this.cellHeight);
       int l = Mth.intFloorDiv(j - i, this.cellHeight);
-      return l <= 0 ? pLevel.getMinBuildHeight() : this.iterateNoiseColumn(pX, pZ, (BlockState[])null, pType.isOpaque(), k, l).orElse(pLevel.getMinBuildHeight());
+      if (l <= 0) {
+         return pLevel.getMinBuildHeight();
+      } else if (k != Mth.intFloorDiv(this.settings.get().noiseSettings().minY(), this.cellHeight) || l != this.cellCountY) {
+         return this.iterateNoiseColumn(pX, pZ, (BlockState[])null, pType.isOpaque(), k, l).orElse(pLevel.getMinBuildHeight());
+      } else {
+         Long2IntLinkedOpenHashMap long2intlinkedopenhashmap = this.heightCaches[pType.ordinal()];
+         long i1 = ChunkPos.asLong(pX, pZ);
+         int j1;
+         synchronized(long2intlinkedopenhashmap) {
+            j1 = long2intlinkedopenhashmap.getAndMoveToFirst(i1);
+         }
+
+         if (j1 == Integer.MAX_VALUE) {
+            j1 = this.iterateNoiseColumn(pX, pZ, (BlockState[])null, pType.isOpaque(), k, l).orElse(Integer.MIN_VALUE);
+            synchronized(long2intlinkedopenhashmap) {
+               if (long2intlinkedopenhashmap.size() >= HEIGHT_CACHE_SIZE) {
+                  long2intlinkedopenhashmap.removeLastInt();
+               }
+
+               long2intlinkedopenhashmap.putAndMoveToFirst(i1, j1);
+            }
+         }
+
+         return j1 == Integer.MIN_VALUE ? pLevel.getMinBuildHeight() : j1;
+      }
    }
 
    public NoiseColumn getBaseColumn(int pX, int pZ, LevelHeightAccessor pLevel) {
@@ -190,6 +224,9 @@ public final class NoiseBasedChunkGenerator extends ChunkGenerator {
       double d1 = (double)j1 / (double)this.cellWidth;
       double[][] adouble = new double[][]{this.makeAndFillNoiseColumn(k, l, pMinCellY, pCellCountY), this.makeAndFillNoiseColumn(k, l + 1, pMinCellY, pCellCountY), this.makeAndFillNoiseColumn(k + 1, l, pMinCellY, pCellCountY), this.makeAndFillNoiseColumn(k + 1, l + 1, pMinCellY, pCellCountY)};
       Aquifer aquifer = this.getAquifer(pMinCellY, pCellCountY, new ChunkPos(i, j));
+      double[] adouble1 = new double[this.cellHeight];
+      BlockState[] ablockstate = new BlockState[this.cellHeight];
+      boolean[] aboolean = new boolean[this.cellHeight];
 
       for(int k1 = pCellCountY - 1; k1 >= 0; --k1) {
          double d2 = adouble[0][k1];
@@ -201,22 +238,32 @@ public final class NoiseBasedChunkGenerator extends ChunkGenerator {
          double d8 = adouble[2][k1 + 1];
          double d9 = adouble[3][k1 + 1];
 
+         int k2 = (pMinCellY + k1 + 1) * this.cellHeight - 1;
+
          for(int l1 = this.cellHeight - 1; l1 >= 0; --l1) {
             double d10 = (double)l1 / (double)this.cellHeight;
             double d11 = Mth.lerp3(d10, d0, d1, d2, d6, d4, d8, d3, d7, d5, d9);
-            int i2 = k1 * this.cellHeight + l1;
+            adouble1[this.cellHeight - 1 - l1] = this.computeDensity(Beardifier.NO_BEARDS, NoiseModifier.PASSTHROUGH, pX, k2 - (this.cellHeight - 1 - l1), pZ, d11);
+         }
+
+         aquifer.computeColumn(this.baseStoneSource, pX, k2, pZ, adouble1, ablockstate, aboolean, this.cellHeight);
+
+         for(int l2 = this.cellHeight - 1; l2 >= 0; --l2) {
+            int i2 = k1 * this.cellHeight + l2;
             int j2 = i2 + pMinCellY * this.cellHeight;
-            BlockState blockstate = this.updateNoiseAndGenerateBaseState(Beardifier.NO_BEARDS, aquifer, this.baseStoneSource, NoiseModifier.PASSTHROUGH, pX, j2, pZ, d11);
+            BlockState blockstate = ablockstate[this.cellHeight - 1 - l2];
             if (pColumn != null) {
                pColumn[i2] = blockstate;
             }
 
             if (pStoppingState != null && pStoppingState.test(blockstate)) {
+               aquifer.release();
                return OptionalInt.of(j2 + 1);
             }
          }
       }
 
+      aquifer.release();
       return OptionalInt.empty();
    }
 
@@ -225,11 +272,14 @@ public final class NoiseBasedChunkGenerator extends ChunkGenerator {
    }
 
    protected BlockState updateNoiseAndGenerateBaseState(Beardifier pBeardifier, Aquifer pAquifer, BaseStoneSource pBaseStoneSource, NoiseModifier pCaveNoiseModifier, int pX, int pY, int pZ, double pNoise) {
+      return pAquifer.computeState(pBaseStoneSource, pX, pY, pZ, this.computeDensity(pBeardifier, pCaveNoiseModifier, pX, pY, pZ, pNoise));
+   }
+
+   private double computeDensity(Beardifier pBeardifier, NoiseModifier pCaveNoiseModifier, int pX, int pY, int pZ, double pNoise) {
       double d0 = Mth.clamp(pNoise / 200.0D, -1.0D, 1.0D);
       d0 = d0 / 2.0D - d0 * d0 * d0 / 24.0D;
       d0 = pCaveNoiseModifier.modifyNoise(d0, pX, pY, pZ);
-      d0 = d0 + pBeardifier.beardifyOrBury(pX, pY, pZ);
-      return pAquifer.computeState(pBaseStoneSource, pX, pY, pZ, d0);
+      return d0 + pBeardifier.beardifyOrBury(pX, pY, pZ);
    }
 
    public void buildSurfaceAndBedrock(WorldGenRegion pLevel, ChunkAccess pChunk) {
@@ -304,45 +354,68 @@ public final class NoiseBasedChunkGenerator extends ChunkGenerator {
       } else {
          int i1 = pChunk.getSectionIndex(l * this.cellHeight - 1 + i);
          int j1 = pChunk.getSectionIndex(i);
-         return CompletableFuture.supplyAsync(() -> {
-            Set<LevelChunkSection> set = Sets.newHashSet();
-
-            ChunkAccess chunkaccess;
-            try {
-               for(int k1 = i1; k1 >= j1; --k1) {
-                  LevelChunkSection levelchunksection = pChunk.getOrCreateSection(k1);
-                  levelchunksection.acquire();
-                  set.add(levelchunksection);
-               }
+         Set<LevelChunkSection> set = Sets.newHashSet();
 
-               chunkaccess = this.doFill(pStructureFeatureManager, pChunk, k, l);
-            } finally {
-               for(LevelChunkSection levelchunksection1 : set) {
-                  levelchunksection1.release();
-               }
+         for(int k1 = i1; k1 >= j1; --k1) {
+            LevelChunkSection levelchunksection = pChunk.getOrCreateSection(k1);
+            levelchunksection.acquire();
+            set.add(levelchunksection);
+         }
 
+         Beardifier beardifier = new Beardifier(pStructureFeatureManager, pChunk);
+         List<NoiseBasedChunkGenerator.NoiseSlab> list = this.createSlabs(k, l);
+         CompletableFuture<?>[] acompletablefuture = new CompletableFuture[list.size()];
+
+         for(int l1 = 0; l1 < list.size(); ++l1) {
+            NoiseBasedChunkGenerator.NoiseSlab noisebasedchunkgenerator$noiseslab = list.get(l1);
+            acompletablefuture[l1] = CompletableFuture.runAsync(() -> {
+               this.doFill(beardifier, pChunk, noisebasedchunkgenerator$noiseslab);
+            }, Util.backgroundExecutor());
+         }
+
+         return CompletableFuture.allOf(acompletablefuture).whenComplete((p_182016_, p_182017_) -> {
+            for(LevelChunkSection levelchunksection1 : set) {
+               levelchunksection1.release();
             }
 
-            return chunkaccess;
-         }, Util.backgroundExecutor());
+         }).thenApply((p_182018_) -> {
+            Heightmap heightmap = pChunk.getOrCreateHeightmapUnprimed(Heightmap.Types.OCEAN_FLOOR_WG);
+            Heightmap heightmap1 = pChunk.getOrCreateHeightmapUnprimed(Heightmap.Types.WORLD_SURFACE_WG);
+
+            for(NoiseBasedChunkGenerator.NoiseSlab noisebasedchunkgenerator$noiseslab1 : list) {
+               noisebasedchunkgenerator$noiseslab1.apply(pChunk, heightmap, heightmap1);
+            }
+
+            return pChunk;
+         });
       }
    }
 
-   private ChunkAccess doFill(StructureFeatureManager pStructureManager, ChunkAccess pChunk, int pMinCellY, int pCellCountY) {
-      Heightmap heightmap = pChunk.getOrCreateHeightmapUnprimed(Heightmap.Types.OCEAN_FLOOR_WG);
-      Heightmap heightmap1 = pChunk.getOrCreateHeightmapUnprimed(Heightmap.Types.WORLD_SURFACE_WG);
+   private List<NoiseBasedChunkGenerator.NoiseSlab> createSlabs(int pMinCellY, int pCellCountY) {
+      List<NoiseBasedChunkGenerator.NoiseSlab> list = Lists.newArrayList();
+      int i = pMinCellY + pCellCountY;
+
+      for(int j = i - 1; j >= pMinCellY; --j) {
+         if (j == pMinCellY || (i - j) * this.cellHeight >= SLAB_HEIGHT && (j * this.cellHeight & 15) == 0) {
+            list.add(new NoiseBasedChunkGenerator.NoiseSlab(j, i - j, Math.min(i - j + 1, pMinCellY + this.cellCountY - j)));
+            i = j;
+         }
+      }
+
+      return list;
+   }
+
+   private void doFill(Beardifier pBeardifier, ChunkAccess pChunk, NoiseBasedChunkGenerator.NoiseSlab pSlab) {
       ChunkPos chunkpos = pChunk.getPos();
       int i = chunkpos.getMinBlockX();
       int j = chunkpos.getMinBlockZ();
-      Beardifier beardifier = new Beardifier(pStructureManager, pChunk);
-      Aquifer aquifer = this.getAquifer(pMinCellY, pCellCountY, chunkpos);
-      NoiseInterpolator noiseinterpolator = new NoiseInterpolator(this.cellCountX, pCellCountY, this.cellCountZ, chunkpos, pMinCellY, this::fillNoiseColumn);
+      Aquifer aquifer = this.getAquifer(pSlab.minCellY, pSlab.cellCountY, chunkpos);
+      NoiseInterpolator noiseinterpolator = new NoiseInterpolator(this.cellCountX, pSlab.cellCountY, this.cellCountZ, chunkpos, pSlab.minCellY, this::fillNoiseColumn);
       List<NoiseInterpolator> list = Lists.newArrayList(noiseinterpolator);
       Consumer<NoiseInterpolator> consumer = list::add;
-      DoubleFunction<BaseStoneSource> doublefunction = this.createBaseStoneSource(pMinCellY, chunkpos, consumer);
-      DoubleFunction<NoiseModifier> doublefunction1 = this.createCaveNoiseModifier(pMinCellY, chunkpos, consumer);
+      DoubleFunction<BaseStoneSource> doublefunction = this.createBaseStoneSource(pSlab.minCellY, pSlab.modifierCellCountY, chunkpos, consumer);
+      DoubleFunction<NoiseModifier> doublefunction1 = this.createCaveNoiseModifier(pSlab.minCellY, pSlab.modifierCellCountY, chunkpos, consumer);
       list.forEach(NoiseInterpolator::initializeForFirstCellX);
-      BlockPos.MutableBlockPos blockpos$mutableblockpos = new BlockPos.MutableBlockPos();
 
       for(int k = 0; k < this.cellCountX; ++k) {
          int l = k;
@@ -351,9 +424,9 @@ public final class NoiseBasedChunkGenerator extends ChunkGenerator {
          });
 
          for(int i1 = 0; i1 < this.cellCountZ; ++i1) {
-            LevelChunkSection levelchunksection = pChunk.getOrCreateSection(pChunk.getSectionsCount() - 1);
+            LevelChunkSection levelchunksection = pChunk.getOrCreateSection(pChunk.getSectionIndex((pSlab.minCellY + pSlab.cellCountY) * this.cellHeight - 1));
 
-            for(int j1 = pCellCountY - 1; j1 >= 0; --j1) {
+            for(int j1 = pSlab.cellCountY - 1; j1 >= 0; --j1) {
                int k1 = i1;
                int l1 = j1;
                list.forEach((p_158412_) -> {
@@ -361,7 +434,7 @@ public final class NoiseBasedChunkGenerator extends ChunkGenerator {
                });
 
                for(int i2 = this.cellHeight - 1; i2 >= 0; --i2) {
-                  int j2 = (pMinCellY + j1) * this.cellHeight + i2;
+                  int j2 = (pSlab.minCellY + j1) * this.cellHeight + i2;
                   int k2 = j2 & 15;
                   int l2 = pChunk.getSectionIndex(j2);
                   if (pChunk.getSectionIndex(levelchunksection.bottomBlockY()) != l2) {
@@ -386,19 +459,16 @@ public final class NoiseBasedChunkGenerator extends ChunkGenerator {
                         int j4 = i4 & 15;
                         double d2 = (double)l3 / (double)this.cellWidth;
                         double d3 = noiseinterpolator.calculateValue(d2);
-                        BlockState blockstate = this.updateNoiseAndGenerateBaseState(beardifier, aquifer, doublefunction.apply(d2), doublefunction1.apply(d2), j3, j2, i4, d3);
+                        BlockState blockstate = this.updateNoiseAndGenerateBaseState(pBeardifier, aquifer, doublefunction.apply(d2), doublefunction1.apply(d2), j3, j2, i4, d3);
                         if (blockstate != AIR) {
                            if (blockstate.getLightEmission() != 0 && pChunk instanceof ProtoChunk) {
-                              blockpos$mutableblockpos.set(j3, j2, i4);
-                              ((ProtoChunk)pChunk).addLight(blockpos$mutableblockpos);
+                              pSlab.lights.add(new BlockPos(j3, j2, i4));
                            }
 
                            levelchunksection.setBlockState(k3, k2, j4, blockstate, false);
-                           heightmap.update(k3, j2, j4, blockstate);
-                           heightmap1.update(k3, j2, j4, blockstate);
+                           pSlab.updateHeightmaps(k3, j2, j4, blockstate);
                            if (aquifer.shouldScheduleFluidUpdate() && !blockstate.getFluidState().isEmpty()) {
-                              blockpos$mutableblockpos.set(j3, j2, i4);
-                              pChunk.getLiquidTicks().scheduleTick(blockpos$mutableblockpos, blockstate.getFluidState().getType(), 0);
+                              pSlab.fluidTicks.add(new BlockPos(j3, j2, i4));
                            }
                         }
                      }
@@ -410,28 +480,28 @@ public final class NoiseBasedChunkGenerator extends ChunkGenerator {
          list.forEach(NoiseInterpolator::swapSlices);
       }
 
-      return pChunk;
+      aquifer.release();
    }
 
-   private DoubleFunction<NoiseModifier> createCaveNoiseModifier(int pMinCellY, ChunkPos pChunkPos, Consumer<NoiseInterpolator> pInterpolators) {
+   private DoubleFunction<NoiseModifier> createCaveNoiseModifier(int pMinCellY, int pCellCountY, ChunkPos pChunkPos, Consumer<NoiseInterpolator> pInterpolators) {
       if (!this.settings.get().isNoodleCavesEnabled()) {
          return (p_158473_) -> {
             return NoiseModifier.PASSTHROUGH;
          };
       } else {
-         NoiseBasedChunkGenerator.NoodleCaveNoiseModifier noisebasedchunkgenerator$noodlecavenoisemodifier = new NoiseBasedChunkGenerator.NoodleCaveNoiseModifier(pChunkPos, pMinCellY);
+         NoiseBasedChunkGenerator.NoodleCaveNoiseModifier noisebasedchunkgenerator$noodlecavenoisemodifier = new NoiseBasedChunkGenerator.NoodleCaveNoiseModifier(pChunkPos, pMinCellY, pCellCountY);
          noisebasedchunkgenerator$noodlecavenoisemodifier.listInterpolators(pInterpolators);
          return noisebasedchunkgenerator$noodlecavenoisemodifier::prepare;
       }
    }
 
-   private DoubleFunction<BaseStoneSource> createBaseStoneSource(int pMinCellY, ChunkPos pChunkPos, Consumer<NoiseInterpolator> pInterpolators) {
+   private DoubleFunction<BaseStoneSource> createBaseStoneSource(int pMinCellY, int pCellCountY, ChunkPos pChunkPos, Consumer<NoiseInterpolator> pInterpolators) {
       if (!this.settings.get().isOreVeinsEnabled()) {
          return (p_158387_) -> {
             return this.baseStoneSource;
          };
       } else {
-         NoiseBasedChunkGenerator.OreVeinNoiseSource noisebasedchunkgenerator$oreveinnoisesource = new NoiseBasedChunkGenerator.OreVeinNoiseSource(pChunkPos, pMinCellY, this.seed + 1L);
+         NoiseBasedChunkGenerator.OreVeinNoiseSource noisebasedchunkgenerator$oreveinnoisesource = new NoiseBasedChunkGenerator.OreVeinNoiseSource(pChunkPos, pMinCellY, pCellCountY, this.seed + 1L);
          noisebasedchunkgenerator$oreveinnoisesource.listInterpolators(pInterpolators);
          BaseStoneSource basestonesource = (p_158450_, p_158451_, p_158452_) -> {
             BlockState blockstate = noisebasedchunkgenerator$oreveinnoisesource.getBaseBlock(p_158450_, p_158451_, p_158452_);
@@ -501,6 +571,61 @@ public final class NoiseBasedChunkGenerator extends ChunkGenerator {
       }
    }
 
+   static class NoiseSlab {
+      final int minCellY;
+      final int cellCountY;
+      final int modifierCellCountY;
+      private final int[] oceanFloorHeights = new int[256];
+      private final BlockState[] oceanFloorStates = new BlockState[256];
+      private final int[] worldSurfaceHeights = new int[256];
+      private final BlockState[] worldSurfaceStates = new BlockState[256];
+      final List<BlockPos> lights = Lists.newArrayList();
+      final List<BlockPos> fluidTicks = Lists.newArrayList();
+
+      NoiseSlab(int pMinCellY, int pCellCountY, int pModifierCellCountY) {
+         this.minCellY = pMinCellY;
+         this.cellCountY = pCellCountY;
+         this.modifierCellCountY = pModifierCellCountY;
+      }
+
+      void updateHeightmaps(int pX, int pY, int pZ, BlockState pState) {
+         int i = pX + pZ * 16;
+         if (this.oceanFloorStates[i] == null && Heightmap.Types.OCEAN_FLOOR_WG.isOpaque().test(pState)) {
+            this.oceanFloorHeights[i] = pY;
+            this.oceanFloorStates[i] = pState;
+         }
+
+         if (this.worldSurfaceStates[i] == null && Heightmap.Types.WORLD_SURFACE_WG.isOpaque().test(pState)) {
+            this.worldSurfaceHeights[i] = pY;
+            this.worldSurfaceStates[i] = pState;
+         }
+
+      }
+
+      void apply(ChunkAccess pChunk, Heightmap pOceanFloor, Heightmap pWorldSurface) {
+         for(int i = 0; i < 256; ++i) {
+            if (this.oceanFloorStates[i] != null) {
+               pOceanFloor.update(i & 15, this.oceanFloorHeights[i], i >> 4, this.oceanFloorStates[i]);
+            }
+
+            if (this.worldSurfaceStates[i] != null) {
+               pWorldSurface.update(i & 15, this.worldSurfaceHeights[i], i >> 4, this.worldSurfaceStates[i]);
+            }
+         }
+
+         if (pChunk instanceof ProtoChunk) {
+            for(BlockPos blockpos : this.lights) {
+               ((ProtoChunk)pChunk).addLight(blockpos);
+            }
+         }
+
+         for(BlockPos blockpos1 : this.fluidTicks) {
+            pChunk.getLiquidTicks().scheduleTick(blockpos1, pChunk.getBlockState(blockpos1).getFluidState().getType(), 0);
+         }
+
+      }
+   }
+
    class NoodleCaveNoiseModifier implements NoiseModifier {
       private final NoiseInterpolator toggle;
       private final NoiseInterpolator thickness;
@@ -508,11 +633,11 @@ public final class NoiseBasedChunkGenerator extends ChunkGenerator {
       private final NoiseInterpolator ridgeB;
       private double factorZ;
 
-      public NoodleCaveNoiseModifier(ChunkPos p_158501_, int p_158502_) {
-         this.toggle = new NoiseInterpolator(NoiseBasedChunkGenerator.this.cellCountX, NoiseBasedChunkGenerator.this.cellCountY, NoiseBasedChunkGenerator.this.cellCountZ, p_158501_, p_158502_, NoiseBasedChunkGenerator.this.noodleCavifier::fillToggleNoiseColumn);
-         this.thickness = new NoiseInterpolator(NoiseBasedChunkGenerator.this.cellCountX, NoiseBasedChunkGenerator.this.cellCountY, NoiseBasedChunkGenerator.this.cellCountZ, p_158501_, p_158502_, NoiseBasedChunkGenerator.this.noodleCavifier::fillThicknessNoiseColumn);
-         this.ridgeA = new NoiseInterpolator(NoiseBasedChunkGenerator.this.cellCountX, NoiseBasedChunkGenerator.this.cellCountY, NoiseBasedChunkGenerator.this.cellCountZ, p_158501_, p_158502_, NoiseBasedChunkGenerator.this.noodleCavifier::fillRidgeANoiseColumn);
-         this.ridgeB = new NoiseInterpolator(NoiseBasedChunkGenerator.this.cellCountX, NoiseBasedChunkGenerator.this.cellCountY, NoiseBasedChunkGenerator.this.cellCountZ, p_158501_, p_158502_, NoiseBasedChunkGenerator.this.noodleCavifier::fillRidgeBNoiseColumn);
+      public NoodleCaveNoiseModifier(ChunkPos p_158501_, int p_158502_, int p_182019_) {
+         this.toggle = new NoiseInterpolator(NoiseBasedChunkGenerator.this.cellCountX, p_182019_, NoiseBasedChunkGenerator.this.cellCountZ, p_158501_, p_158502_, NoiseBasedChunkGenerator.this.noodleCavifier::fillToggleNoiseColumn);
+         this.thickness = new NoiseInterpolator(NoiseBasedChunkGenerator.this.cellCountX, p_182019_, NoiseBasedChunkGenerator.this.cellCountZ, p_158501_, p_158502_, NoiseBasedChunkGenerator.this.noodleCavifier::fillThicknessNoiseColumn);
+         this.ridgeA = new NoiseInterpolator(NoiseBasedChunkGenerator.this.cellCountX, p_182019_, NoiseBasedChunkGenerator.this.cellCountZ, p_158501_, p_158502_, NoiseBasedChunkGenerator.this.noodleCavifier::fillRidgeANoiseColumn);
+         this.ridgeB = new NoiseInterpolator(NoiseBasedChunkGenerator.this.cellCountX, p_182019_, NoiseBasedChunkGenerator.this.cellCountZ, p_158501_, p_158502_, NoiseBasedChunkGenerator.this.noodleCavifier::fillRidgeBNoiseColumn);
       }
 
       public NoiseModifier prepare(double pFactorZ) {
@@ -544,10 +669,10 @@ public final class NoiseBasedChunkGenerator extends ChunkGenerator {
       private final long seed;
       private final WorldgenRandom random = new WorldgenRandom();
 
-      public OreVeinNoiseSource(ChunkPos p_158521_, int p_158522_, long p_158523_) {
-         this.veininess = new NoiseInterpolator(NoiseBasedChunkGenerator.this.cellCountX, NoiseBasedChunkGenerator.this.cellCountY, NoiseBasedChunkGenerator.this.cellCountZ, p_158521_, p_158522_, NoiseBasedChunkGenerator.this.oreVeinifier::fillVeininessNoiseColumn);
-         this.veinA = new NoiseInterpolator(NoiseBasedChunkGenerator.this.cellCountX, NoiseBasedChunkGenerator.this.cellCountY, NoiseBasedChunkGenerator.this.cellCountZ, p_158521_, p_158522_, NoiseBasedChunkGenerator.this.oreVeinifier::fillNoiseColumnA);
-         this.veinB = new NoiseInterpolator(NoiseBasedChunkGenerator.this.cellCountX, NoiseBasedChunkGenerator.this.cellCountY, NoiseBasedChunkGenerator.this.cellCountZ, p_158521_, p_158522_, NoiseBasedChunkGenerator.this.oreVeinifier::fillNoiseColumnB);
+      public OreVeinNoiseSource(ChunkPos p_158521_, int p_158522_, int p_182020_, long p_158523_) {
+         this.veininess = new NoiseInterpolator(NoiseBasedChunkGenerator.this.cellCountX, p_182020_, NoiseBasedChunkGenerator.this.cellCountZ, p_158521_, p_158522_, NoiseBasedChunkGenerator.this.oreVeinifier::fillVeininessNoiseColumn);
+         this.veinA = new NoiseInterpolator(NoiseBasedChunkGenerator.this.cellCountX, p_182020_, NoiseBasedChunkGenerator.this.cellCountZ, p_158521_, p_158522_, NoiseBasedChunkGenerator.this.oreVeinifier::fillNoiseColumnA);
+         this.veinB = new NoiseInterpolator(NoiseBasedChunkGenerator.this.cellCountX, p_182020_, NoiseBasedChunkGenerator.this.cellCountZ, p_158521_, p_158522_, NoiseBasedChunkGenerator.this.oreVeinifier::fillNoiseColumnB);
          this.seed = p_158523_;
       }
 
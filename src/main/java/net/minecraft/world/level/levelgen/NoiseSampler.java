@@ -115,9 +115,11 @@ public class NoiseSampler {
       double d5 = d3 / pNoiseSettings.noiseSamplingSettings().yFactor();
       double d7 = pNoiseSettings.randomDensityOffset() ? this.getRandomDensity(pCellX, pCellZ) : 0.0D;
 
+      this.blendedNoise.sampleAndClampNoiseColumn(pCellX, pCellZ, pMinCellY, pCellCountY + 1, d2, d3, d4, d5, pNoiseValues);
+
       for(int i1 = 0; i1 <= pCellCountY; ++i1) {
          int j1 = i1 + pMinCellY;
-         double d9 = this.blendedNoise.sampleAndClampNoise(pCellX, j1, pCellZ, d2, d3, d4, d5);
+         double d9 = pNoiseValues[i1];
          double d10 = this.computeInitialDensity(j1, d0, d1, d7) + d9;
          d10 = this.caveNoiseModifier.modifyNoise(d10, j1 * this.cellHeight, pCellZ * this.cellWidth, pCellX * this.cellWidth);
          d10 = this.applySlide(d10, j1);
@@ -128,6 +128,7 @@ public class SinglePoolElement extends StructurePoolElement {
       structureplacesettings.setIgnoreEntities(false);
       structureplacesettings.addProcessor(BlockIgnoreProcessor.STRUCTURE_BLOCK);
       structureplacesettings.setFinalizeEntities(true);
+      structureplacesettings.setBulkPlacement(true);
       if (!p_69110_) {
          structureplacesettings.addProcessor(JigsawReplacementProcessor.INSTANCE);
       }
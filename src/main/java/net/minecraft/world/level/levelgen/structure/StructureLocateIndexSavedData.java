@@ -0,0 +1,103 @@
+package net.minecraft.world.level.levelgen.structure;
+
+import com.google.common.collect.Maps;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.Map;
+import javax.annotation.Nullable;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.levelgen.feature.StructureFeature;
+import net.minecraft.world.level.saveddata.SavedData;
+
+public class StructureLocateIndexSavedData extends SavedData {
+   private static final String TAG_EMPTY = "Empty";
+   private static final String TAG_STARTS = "Starts";
+   private final Map<StructureFeature<?>, LongSet> emptyChunks = Maps.newHashMap();
+   private final Map<StructureFeature<?>, Long2LongMap> starts = Maps.newHashMap();
+
+   public static StructureLocateIndexSavedData load(CompoundTag pTag) {
+      StructureLocateIndexSavedData structurelocateindexsaveddata = new StructureLocateIndexSavedData();
+
+      for(String s : pTag.getAllKeys()) {
+         StructureFeature<?> structurefeature = StructureFeature.STRUCTURES_REGISTRY.get(s);
+         if (structurefeature != null) {
+            CompoundTag compoundtag = pTag.getCompound(s);
+            structurelocateindexsaveddata.emptyChunks.put(structurefeature, new LongOpenHashSet(compoundtag.getLongArray("Empty")));
+            long[] along = compoundtag.getLongArray("Starts");
+            Long2LongMap long2longmap = new Long2LongOpenHashMap();
+
+            for(int i = 0; i + 1 < along.length; i += 2) {
+               long2longmap.put(along[i], along[i + 1]);
+            }
+
+            structurelocateindexsaveddata.starts.put(structurefeature, long2longmap);
+         }
+      }
+
+      return structurelocateindexsaveddata;
+   }
+
+   public synchronized CompoundTag save(CompoundTag pCompound) {
+      for(StructureFeature<?> structurefeature : StructureFeature.STRUCTURES_REGISTRY.values()) {
+         LongSet longset = this.emptyChunks.get(structurefeature);
+         Long2LongMap long2longmap = this.starts.get(structurefeature);
+         if (longset != null || long2longmap != null) {
+            CompoundTag compoundtag = new CompoundTag();
+            if (longset != null) {
+               compoundtag.putLongArray("Empty", longset.toLongArray());
+            }
+
+            if (long2longmap != null) {
+               long[] along = new long[long2longmap.size() * 2];
+               int i = 0;
+
+               for(Long2LongMap.Entry entry : long2longmap.long2LongEntrySet()) {
+                  along[i++] = entry.getLongKey();
+                  along[i++] = entry.getLongValue();
+               }
+
+               compoundtag.putLongArray("Starts", along);
+            }
+
+            pCompound.put(structurefeature.getFeatureName(), compoundtag);
+         }
+      }
+
+      return pCompound;
+   }
+
+   public synchronized boolean isKnownEmpty(StructureFeature<?> pFeature, long pChunkPos) {
+      LongSet longset = this.emptyChunks.get(pFeature);
+      return longset != null && longset.contains(pChunkPos);
+   }
+
+   @Nullable
+   public synchronized BlockPos getKnownStart(StructureFeature<?> pFeature, long pChunkPos) {
+      Long2LongMap long2longmap = this.starts.get(pFeature);
+      return long2longmap != null && long2longmap.containsKey(pChunkPos) ? BlockPos.of(long2longmap.get(pChunkPos)) : null;
+   }
+
+   public synchronized void addEmpty(StructureFeature<?> pFeature, long pChunkPos) {
+      if (this.emptyChunks.computeIfAbsent(pFeature, (p_182021_) -> {
+         return new LongOpenHashSet();
+      }).add(pChunkPos)) {
+         this.setDirty();
+      }
+
+   }
+
+   public synchronized void addStart(StructureFeature<?> pFeature, long pChunkPos, BlockPos pLocatePos) {
+      long i = pLocatePos.asLong();
+      Long2LongMap long2longmap = this.starts.computeIfAbsent(pFeature, (p_182022_) -> {
+         return new Long2LongOpenHashMap();
+      });
+      if (!long2longmap.containsKey(pChunkPos) || long2longmap.get(pChunkPos) != i) {
+         long2longmap.put(pChunkPos, i);
+         this.setDirty();
+      }
+
+   }
+}
\ No newline at end of file
@@ -0,0 +1,187 @@
+package net.minecraft.world.level.levelgen.structure;
+
+import com.google.common.collect.Lists;
+import com.mojang.datafixers.util.Either;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javax.annotation.Nullable;
+import net.minecraft.Util;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ChunkHolder;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkGenerator;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.levelgen.WorldgenRandom;
+import net.minecraft.world.level.levelgen.feature.StructureFeature;
+import net.minecraft.world.level.levelgen.feature.configurations.StructureFeatureConfiguration;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class StructureLocator {
+   private static final Logger LOGGER = LogManager.getLogger();
+   private static final int BIOME_CHECK_BATCH_SIZE = 64;
+   private static final int CHUNK_LOAD_WINDOW = 4;
+   private final ServerLevel level;
+   private final StructureLocateIndexSavedData index;
+
+   public StructureLocator(ServerLevel pLevel) {
+      this.level = pLevel;
+      this.index = pLevel.getDataStorage().computeIfAbsent(StructureLocateIndexSavedData::load, StructureLocateIndexSavedData::new, "structure_locate_index");
+   }
+
+   public CompletableFuture<BlockPos> findNearestMapFeature(StructureFeature<?> pStructure, BlockPos pPos, int pSearchRadius, boolean pSkipKnownStructures) {
+      ChunkGenerator chunkgenerator = this.level.getChunkSource().getGenerator();
+      StructureFeatureConfiguration structurefeatureconfiguration = chunkgenerator.getSettings().getConfig(pStructure);
+      if (pStructure != StructureFeature.STRONGHOLD && structurefeatureconfiguration != null && chunkgenerator.getBiomeSource().canGenerateStructure(pStructure)) {
+         StructureLocator.Search structurelocator$search = new StructureLocator.Search(pStructure, structurefeatureconfiguration, SectionPos.blockToSectionCoord(pPos.getX()), SectionPos.blockToSectionCoord(pPos.getZ()), pSearchRadius, pSkipKnownStructures);
+         return this.searchRing(structurelocator$search, 0).exceptionally((p_182023_) -> {
+            LOGGER.error("Failed to locate {}", pStructure.getFeatureName(), p_182023_);
+            return null;
+         }).thenApplyAsync((p_182024_) -> {
+            return p_182024_;
+         }, this.level.getServer());
+      } else {
+         return CompletableFuture.completedFuture(chunkgenerator.findNearestMapFeature(this.level, pStructure, pPos, pSearchRadius, pSkipKnownStructures));
+      }
+   }
+
+   private CompletableFuture<BlockPos> searchRing(StructureLocator.Search pSearch, int pRing) {
+      if (pRing > pSearch.radius) {
+         return CompletableFuture.completedFuture((BlockPos)null);
+      } else {
+         List<ChunkPos> list = this.getRingCandidates(pSearch, pRing);
+         boolean[] aboolean = new boolean[list.size()];
+         CompletableFuture<?>[] acompletablefuture = new CompletableFuture[(list.size() + BIOME_CHECK_BATCH_SIZE - 1) / BIOME_CHECK_BATCH_SIZE];
+
+         for(int i = 0; i < acompletablefuture.length; ++i) {
+            int j = i * BIOME_CHECK_BATCH_SIZE;
+            int k = Math.min(j + BIOME_CHECK_BATCH_SIZE, list.size());
+            acompletablefuture[i] = CompletableFuture.runAsync(() -> {
+               for(int l = j; l < k; ++l) {
+                  aboolean[l] = this.isCandidate(pSearch.feature, list.get(l));
+               }
+
+            }, Util.backgroundExecutor());
+         }
+
+         return CompletableFuture.allOf(acompletablefuture).thenComposeAsync((p_182025_) -> {
+            return this.checkCandidates(pSearch, list, aboolean, 0);
+         }, Util.backgroundExecutor()).thenCompose((p_182026_) -> {
+            return p_182026_ != null ? CompletableFuture.completedFuture(p_182026_) : this.searchRing(pSearch, pRing + 1);
+         });
+      }
+   }
+
+   private List<ChunkPos> getRingCandidates(StructureLocator.Search pSearch, int pRing) {
+      List<ChunkPos> list = Lists.newArrayList();
+      WorldgenRandom worldgenrandom = new WorldgenRandom();
+      int i = pSearch.config.spacing();
+
+      for(int j = -pRing; j <= pRing; ++j) {
+         boolean flag = j == -pRing || j == pRing;
+
+         for(int k = -pRing; k <= pRing; ++k) {
+            boolean flag1 = k == -pRing || k == pRing;
+            if (flag || flag1) {
+               list.add(pSearch.feature.getPotentialFeatureChunk(pSearch.config, this.level.getSeed(), worldgenrandom, pSearch.chunkX + i * j, pSearch.chunkZ + i * k));
+            }
+         }
+      }
+
+      return list;
+   }
+
+   private boolean isCandidate(StructureFeature<?> pFeature, ChunkPos pChunkPos) {
+      return !this.index.isKnownEmpty(pFeature, pChunkPos.toLong()) && this.level.getChunkSource().getGenerator().getBiomeSource().getPrimaryBiome(pChunkPos).getGenerationSettings().isValidStart(pFeature);
+   }
+
+   private CompletableFuture<BlockPos> checkCandidates(StructureLocator.Search pSearch, List<ChunkPos> pCandidates, boolean[] pIsCandidate, int pStart) {
+      List<ChunkPos> list = Lists.newArrayList();
+      List<CompletableFuture<StructureStart<?>>> list1 = Lists.newArrayList();
+      int i = pStart;
+
+      while(i < pCandidates.size() && list.size() < CHUNK_LOAD_WINDOW) {
+         if (pIsCandidate[i]) {
+            ChunkPos chunkpos = pCandidates.get(i);
+            BlockPos blockpos = this.index.getKnownStart(pSearch.feature, chunkpos.toLong());
+            if (blockpos != null && !pSearch.skipKnownStructures) {
+               if (list.isEmpty()) {
+                  return CompletableFuture.completedFuture(blockpos);
+               }
+
+               break;
+            }
+
+            list.add(chunkpos);
+            list1.add(this.level.getChunkSource().getChunkFuture(chunkpos.x, chunkpos.z, ChunkStatus.STRUCTURE_STARTS, true).thenApplyAsync((p_182027_) -> {
+               return this.getStart(pSearch.feature, chunkpos, p_182027_);
+            }, this.level.getServer()));
+         }
+
+         ++i;
+      }
+
+      if (list.isEmpty()) {
+         return CompletableFuture.completedFuture((BlockPos)null);
+      } else {
+         int j = i;
+         return CompletableFuture.allOf(list1.toArray(new CompletableFuture[0])).thenApplyAsync((p_182028_) -> {
+            for(CompletableFuture<StructureStart<?>> completablefuture : list1) {
+               StructureStart<?> structurestart = completablefuture.join();
+               if (structurestart != null) {
+                  if (!pSearch.skipKnownStructures) {
+                     return structurestart.getLocatePos();
+                  }
+
+                  if (structurestart.canBeReferenced()) {
+                     structurestart.addReference();
+                     return structurestart.getLocatePos();
+                  }
+               }
+            }
+
+            return null;
+         }, this.level.getServer()).thenComposeAsync((p_182029_) -> {
+            return p_182029_ != null ? CompletableFuture.completedFuture(p_182029_) : this.checkCandidates(pSearch, pCandidates, pIsCandidate, j);
+         }, Util.backgroundExecutor());
+      }
+   }
+
+   @Nullable
+   private StructureStart<?> getStart(StructureFeature<?> pFeature, ChunkPos pChunkPos, Either<ChunkAccess, ChunkHolder.ChunkLoadingFailure> pChunk) {
+      ChunkAccess chunkaccess = pChunk.left().orElse((ChunkAccess)null);
+      if (chunkaccess == null) {
+         return null;
+      } else {
+         StructureStart<?> structurestart = this.level.structureFeatureManager().getStartForFeature(SectionPos.bottomOf(chunkaccess), pFeature, chunkaccess);
+         if (structurestart != null && structurestart.isValid()) {
+            this.index.addStart(pFeature, pChunkPos.toLong(), structurestart.getLocatePos());
+            return structurestart;
+         } else {
+            this.index.addEmpty(pFeature, pChunkPos.toLong());
+            return null;
+         }
+      }
+   }
+
+   static class Search {
+      final StructureFeature<?> feature;
+      final StructureFeatureConfiguration config;
+      final int chunkX;
+      final int chunkZ;
+      final int radius;
+      final boolean skipKnownStructures;
+
+      Search(StructureFeature<?> pFeature, StructureFeatureConfiguration pConfig, int pChunkX, int pChunkZ, int pRadius, boolean pSkipKnownStructures) {
+         this.feature = pFeature;
+         this.config = pConfig;
+         this.chunkX = pChunkX;
+         this.chunkZ = pChunkZ;
+         this.radius = pRadius;
+         this.skipKnownStructures = pSkipKnownStructures;
+      }
+   }
+}
\ No newline at end of file
@@ -65,7 +65,7 @@ public abstract class TemplateStructurePiece extends StructurePiece {
    }
 
    public boolean postProcess(WorldGenLevel pLevel, StructureFeatureManager pStructureManager, ChunkGenerator pChunkGenerator, Random pRandom, BoundingBox pBox, ChunkPos pChunkPos, BlockPos pPos) {
-      this.placeSettings.setBoundingBox(pBox);
+      this.placeSettings.setBoundingBox(pBox).setBulkPlacement(true);
       this.boundingBox = this.template.getBoundingBox(this.placeSettings, this.templatePosition);
       if (this.template.placeInWorld(pLevel, this.templatePosition, pPos, this.placeSettings, pRandom, 2)) {
          for(StructureTemplate.StructureBlockInfo structuretemplate$structureblockinfo : this.template.filterBlocks(this.templatePosition, this.placeSettings, Blocks.STRUCTURE_BLOCK)) {
@@ -26,6 +26,7 @@ public class StructurePlaceSettings {
    private final List<StructureProcessor> processors = Lists.newArrayList();
    private boolean knownShape;
    private boolean finalizeEntities;
+   private boolean bulkPlacement;
 
    public StructurePlaceSettings copy() {
       StructurePlaceSettings structureplacesettings = new StructurePlaceSettings();
@@ -40,6 +41,7 @@ public class StructurePlaceSettings {
       structureplacesettings.processors.addAll(this.processors);
       structureplacesettings.knownShape = this.knownShape;
       structureplacesettings.finalizeEntities = this.finalizeEntities;
+      structureplacesettings.bulkPlacement = this.bulkPlacement;
       return structureplacesettings;
    }
 
@@ -156,4 +158,13 @@ public class StructurePlaceSettings {
    public boolean shouldFinalizeEntities() {
       return this.finalizeEntities;
    }
+
+   public StructurePlaceSettings setBulkPlacement(boolean pBulkPlacement) {
+      this.bulkPlacement = pBulkPlacement;
+      return this;
+   }
+
+   public boolean isBulkPlacement() {
+      return this.bulkPlacement;
+   }
 }
\ No newline at end of file
@@ -4,11 +4,15 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.mojang.datafixers.util.Pair;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Random;
 import java.util.stream.Collectors;
@@ -17,12 +21,14 @@ import net.minecraft.SharedConstants;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.IdMapper;
+import net.minecraft.core.SectionPos;
 import net.minecraft.core.Vec3i;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.DoubleTag;
 import net.minecraft.nbt.IntTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.NbtUtils;
+import net.minecraft.server.level.WorldGenRegion;
 import net.minecraft.world.Clearable;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
@@ -31,6 +37,7 @@ import net.minecraft.world.entity.MobSpawnType;
 import net.minecraft.world.entity.SpawnGroupData;
 import net.minecraft.world.entity.decoration.Painting;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.EmptyBlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
@@ -43,6 +50,14 @@ import net.minecraft.world.level.block.Rotation;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.RandomizableContainerBlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.BulkSectionAccess;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.ImposterProtoChunk;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.phys.AABB;
@@ -220,10 +235,21 @@ public class StructureTemplate {
             int l = Integer.MIN_VALUE;
             int i1 = Integer.MIN_VALUE;
             int j1 = Integer.MIN_VALUE;
+            List<StructureTemplate.StructureBlockInfo> list4 = processBlockInfos(p_74537_, p_74538_, p_74539_, p_74540_, list);
+            byte[] abyte = p_74540_.isBulkPlacement() && p_74537_ instanceof WorldGenRegion ? placeInSections((WorldGenRegion)p_74537_, list4, p_74540_) : new byte[list4.size()];
 
-            for(StructureTemplate.StructureBlockInfo structuretemplate$structureblockinfo : processBlockInfos(p_74537_, p_74538_, p_74539_, p_74540_, list)) {
+            for(int k2 = 0; k2 < list4.size(); ++k2) {
+               StructureTemplate.StructureBlockInfo structuretemplate$structureblockinfo = list4.get(k2);
                BlockPos blockpos = structuretemplate$structureblockinfo.pos;
-               if (boundingbox == null || boundingbox.isInside(blockpos)) {
+               if (abyte[k2] == 1) {
+                  i = Math.min(i, blockpos.getX());
+                  j = Math.min(j, blockpos.getY());
+                  k = Math.min(k, blockpos.getZ());
+                  l = Math.max(l, blockpos.getX());
+                  i1 = Math.max(i1, blockpos.getY());
+                  j1 = Math.max(j1, blockpos.getZ());
+                  list3.add(Pair.of(blockpos, (CompoundTag)null));
+               } else if (abyte[k2] == 0 && (boundingbox == null || boundingbox.isInside(blockpos))) {
                   FluidState fluidstate = p_74540_.shouldKeepLiquids() ? p_74537_.getFluidState(blockpos) : null;
                   BlockState blockstate = structuretemplate$structureblockinfo.state.mirror(p_74540_.getMirror()).rotate(p_74540_.getRotation());
                   if (structuretemplate$structureblockinfo.nbt != null) {
@@ -346,6 +372,91 @@ public class StructureTemplate {
       }
    }
 
+   private static byte[] placeInSections(WorldGenRegion pLevel, List<StructureTemplate.StructureBlockInfo> pBlockInfos, StructurePlaceSettings pSettings) {
+      byte[] abyte = new byte[pBlockInfos.size()];
+      BoundingBox boundingbox = pSettings.getBoundingBox();
+      Long2ObjectMap<List<BlockPos>> long2objectmap = new Long2ObjectLinkedOpenHashMap<>();
+      BulkSectionAccess bulksectionaccess = new BulkSectionAccess(pLevel);
+
+      try {
+         for(int i = 0; i < pBlockInfos.size(); ++i) {
+            StructureTemplate.StructureBlockInfo structuretemplate$structureblockinfo = pBlockInfos.get(i);
+            BlockPos blockpos = structuretemplate$structureblockinfo.pos;
+            if (structuretemplate$structureblockinfo.nbt == null && (boundingbox == null || boundingbox.isInside(blockpos)) && !pLevel.isOutsideBuildHeight(blockpos)) {
+               BlockState blockstate = structuretemplate$structureblockinfo.state.mirror(pSettings.getMirror()).rotate(pSettings.getRotation());
+               if (!blockstate.hasBlockEntity() && (!pSettings.shouldKeepLiquids() || !blockstate.getFluidState().isSource() && !(blockstate.getBlock() instanceof LiquidBlockContainer))) {
+                  if (!pLevel.ensureCanWrite(blockpos)) {
+                     abyte[i] = 2;
+                  } else {
+                     ChunkAccess chunkaccess = pLevel.getChunk(blockpos);
+                     if (chunkaccess instanceof ProtoChunk && !(chunkaccess instanceof ImposterProtoChunk) && !chunkaccess.getStatus().isOrAfter(ChunkStatus.FEATURES)) {
+                        abyte[i] = 1;
+                        LevelChunkSection levelchunksection = chunkaccess.getSections()[chunkaccess.getSectionIndex(blockpos.getY())];
+                        if (levelchunksection != LevelChunk.EMPTY_SECTION || !blockstate.is(Blocks.AIR)) {
+                           if (blockstate.getLightEmission() > 0) {
+                              ((ProtoChunk)chunkaccess).addLight(blockpos);
+                           }
+
+                           BlockState blockstate1 = bulksectionaccess.getSection(blockpos).setBlockState(SectionPos.sectionRelative(blockpos.getX()), SectionPos.sectionRelative(blockpos.getY()), SectionPos.sectionRelative(blockpos.getZ()), blockstate, false);
+                           pLevel.getLevel().onBlockStateChange(blockpos, blockstate1, blockstate);
+                           if (blockstate1.hasBlockEntity()) {
+                              chunkaccess.removeBlockEntity(blockpos);
+                           }
+
+                           if (blockstate.hasPostProcess(pLevel, blockpos)) {
+                              chunkaccess.markPosForPostprocessing(blockpos);
+                           }
+
+                           long2objectmap.computeIfAbsent(ChunkPos.asLong(blockpos), (p_182041_) -> {
+                              return Lists.newArrayList();
+                           }).add(blockpos);
+                        }
+                     }
+                  }
+               }
+            }
+         }
+      } catch (Throwable throwable1) {
+         try {
+            bulksectionaccess.close();
+         } catch (Throwable throwable) {
+            throwable1.addSuppressed(throwable);
+         }
+
+         throw throwable1;
+      }
+
+      bulksectionaccess.close();
+
+      for(List<BlockPos> list : long2objectmap.values()) {
+         updateHeightmaps(pLevel.getChunk(list.get(0)), list);
+      }
+
+      return abyte;
+   }
+
+   private static void updateHeightmaps(ChunkAccess pChunk, List<BlockPos> pPositions) {
+      EnumSet<Heightmap.Types> enumset = pChunk.getStatus().heightmapsAfter();
+      EnumSet<Heightmap.Types> enumset1 = EnumSet.copyOf(enumset);
+
+      for(Entry<Heightmap.Types, Heightmap> entry : pChunk.getHeightmaps()) {
+         enumset1.remove(entry.getKey());
+      }
+
+      if (!enumset1.isEmpty()) {
+         Heightmap.primeHeightmaps(pChunk, enumset1);
+      }
+
+      for(Heightmap.Types heightmap$types : enumset) {
+         Heightmap heightmap = pChunk.getOrCreateHeightmapUnprimed(heightmap$types);
+
+         for(BlockPos blockpos : pPositions) {
+            heightmap.update(blockpos.getX() & 15, blockpos.getY(), blockpos.getZ() & 15, pChunk.getBlockState(blockpos));
+         }
+      }
+
+   }
+
    public static void updateShapeAtEdge(LevelAccessor p_74511_, int p_74512_, DiscreteVoxelShape p_74513_, int p_74514_, int p_74515_, int p_74516_) {
       p_74513_.forAllFaces((p_74494_, p_74495_, p_74496_, p_74497_) -> {
          BlockPos blockpos = new BlockPos(p_74514_ + p_74495_, p_74515_ + p_74496_, p_74516_ + p_74497_);
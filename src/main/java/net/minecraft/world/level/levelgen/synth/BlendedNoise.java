@@ -1,6 +1,7 @@
 package net.minecraft.world.level.levelgen.synth;
 
 import java.util.stream.IntStream;
+import javax.annotation.Nullable;
 import net.minecraft.util.Mth;
 import net.minecraft.world.level.levelgen.RandomSource;
 
@@ -64,4 +65,82 @@ public class BlendedNoise {
 
       return Mth.clampedLerp(d0 / 512.0D, d1 / 512.0D, d8);
    }
+
+   public void sampleAndClampNoiseColumn(int pX, int pZ, int pMinY, int pCount, double pLimitHorizontalScale, double pLimitVerticalScale, double pMainHorizontalScale, double pMainVerticalScale, double[] pValues) {
+      double[] adouble = new double[pCount];
+      double[] adouble1 = new double[pCount];
+      double[] adouble2 = new double[pCount];
+      double[] adouble3 = new double[pCount];
+      double d0 = 1.0D;
+
+      for(int i = 0; i < 8; ++i) {
+         ImprovedNoise improvednoise = this.mainNoise.getOctaveNoise(i);
+         if (improvednoise != null) {
+            for(int j = 0; j < pCount; ++j) {
+               adouble1[j] = PerlinNoise.wrap((double)(pMinY + j) * pMainVerticalScale * d0);
+               adouble2[j] = (double)(pMinY + j) * pMainVerticalScale * d0;
+            }
+
+            improvednoise.noiseColumn(PerlinNoise.wrap((double)pX * pMainHorizontalScale * d0), PerlinNoise.wrap((double)pZ * pMainHorizontalScale * d0), adouble1, adouble2, pMainVerticalScale * d0, adouble3, pCount);
+
+            for(int k = 0; k < pCount; ++k) {
+               adouble[k] += adouble3[k] / d0;
+            }
+         }
+
+         d0 /= 2.0D;
+      }
+
+      int[] aint = new int[pCount];
+      int[] aint1 = new int[pCount];
+      int l = 0;
+      int i1 = 0;
+
+      for(int j1 = 0; j1 < pCount; ++j1) {
+         adouble[j1] = (adouble[j1] / 10.0D + 1.0D) / 2.0D;
+         if (!(adouble[j1] >= 1.0D)) {
+            aint[l++] = j1;
+         }
+
+         if (!(adouble[j1] <= 0.0D)) {
+            aint1[i1++] = j1;
+         }
+      }
+
+      double[] adouble4 = new double[pCount];
+      double[] adouble5 = new double[pCount];
+      d0 = 1.0D;
+
+      for(int k1 = 0; k1 < 16; ++k1) {
+         double d1 = PerlinNoise.wrap((double)pX * pLimitHorizontalScale * d0);
+         double d2 = PerlinNoise.wrap((double)pZ * pLimitHorizontalScale * d0);
+         addLimitOctave(this.minLimitNoise.getOctaveNoise(k1), d1, d2, pMinY, aint, l, pLimitVerticalScale, d0, adouble1, adouble2, adouble3, adouble4);
+         addLimitOctave(this.maxLimitNoise.getOctaveNoise(k1), d1, d2, pMinY, aint1, i1, pLimitVerticalScale, d0, adouble1, adouble2, adouble3, adouble5);
+         d0 /= 2.0D;
+      }
+
+      for(int l1 = 0; l1 < pCount; ++l1) {
+         pValues[l1] = Mth.clampedLerp(adouble4[l1] / 512.0D, adouble5[l1] / 512.0D, adouble[l1]);
+      }
+
+   }
+
+   private static void addLimitOctave(@Nullable ImprovedNoise pNoise, double pX, double pZ, int pMinY, int[] pIndices, int pCount, double pVerticalScale, double pOctaveScale, double[] pY, double[] pYMax, double[] pNoiseValues, double[] pValues) {
+      if (pNoise != null && pCount > 0) {
+         double d0 = pVerticalScale * pOctaveScale;
+
+         for(int i = 0; i < pCount; ++i) {
+            int j = pMinY + pIndices[i];
+            pY[i] = PerlinNoise.wrap((double)j * pVerticalScale * pOctaveScale);
+            pYMax[i] = (double)j * d0;
+         }
+
+         pNoise.noiseColumn(pX, pZ, pY, pYMax, d0, pNoiseValues, pCount);
+
+         for(int k = 0; k < pCount; ++k) {
+            pValues[pIndices[k]] += pNoiseValues[k] / pOctaveScale;
+         }
+
+      }
+   }
 }
\ No newline at end of file
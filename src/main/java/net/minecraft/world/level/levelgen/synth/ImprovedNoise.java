@@ -61,6 +61,42 @@ public final class ImprovedNoise {
       return this.sampleAndLerp(i, j, k, d3, d4 - d6, d5, d4);
    }
 
+   public void noiseColumn(double pX, double pZ, double[] pY, double[] pYMax, double pYScale, double[] pValues, int pCount) {
+      double d0 = pX + this.xo;
+      double d1 = pZ + this.zo;
+      int i = Mth.floor(d0);
+      int j = Mth.floor(d1);
+      double d2 = d0 - (double)i;
+      double d3 = d1 - (double)j;
+      double d4 = Mth.smoothstep(d2);
+      double d5 = Mth.smoothstep(d3);
+      int k = this.p(i);
+      int l = this.p(i + 1);
+
+      for(int i1 = 0; i1 < pCount; ++i1) {
+         double d6 = pY[i1] + this.yo;
+         int j1 = Mth.floor(d6);
+         double d7 = d6 - (double)j1;
+         double d8;
+         if (pYScale != 0.0D) {
+            double d9 = pYMax[i1];
+            double d10;
+            if (d9 >= 0.0D && d9 < d7) {
+               d10 = d9;
+            } else {
+               d10 = d7;
+            }
+
+            d8 = (double)Mth.floor(d10 / pYScale + (double)1.0E-7F) * pYScale;
+         } else {
+            d8 = 0.0D;
+         }
+
+         pValues[i1] = this.sampleAndLerp(k, l, j1, j, d2, d7 - d8, d3, d4, Mth.smoothstep(d7), d5);
+      }
+
+   }
+
    public double noiseWithDerivative(double pX, double pY, double pZ, double[] pValues) {
       double d0 = pX + this.xo;
       double d1 = pY + this.yo;
@@ -83,12 +119,14 @@ public final class ImprovedNoise {
    }
 
    private double sampleAndLerp(int pGridX, int pGridY, int pGridZ, double pDeltaX, double pWeirdDeltaY, double pDeltaZ, double pDeltaY) {
-      int i = this.p(pGridX);
-      int j = this.p(pGridX + 1);
-      int k = this.p(i + pGridY);
-      int l = this.p(i + pGridY + 1);
-      int i1 = this.p(j + pGridY);
-      int j1 = this.p(j + pGridY + 1);
+      return this.sampleAndLerp(this.p(pGridX), this.p(pGridX + 1), pGridY, pGridZ, pDeltaX, pWeirdDeltaY, pDeltaZ, Mth.smoothstep(pDeltaX), Mth.smoothstep(pDeltaY), Mth.smoothstep(pDeltaZ));
+   }
+
+   private double sampleAndLerp(int pHashX, int pHashX1, int pGridY, int pGridZ, double pDeltaX, double pWeirdDeltaY, double pDeltaZ, double pSmoothX, double pSmoothY, double pSmoothZ) {
+      int k = this.p(pHashX + pGridY);
+      int l = this.p(pHashX + pGridY + 1);
+      int i1 = this.p(pHashX1 + pGridY);
+      int j1 = this.p(pHashX1 + pGridY + 1);
       double d0 = gradDot(this.p(k + pGridZ), pDeltaX, pWeirdDeltaY, pDeltaZ);
       double d1 = gradDot(this.p(i1 + pGridZ), pDeltaX - 1.0D, pWeirdDeltaY, pDeltaZ);
       double d2 = gradDot(this.p(l + pGridZ), pDeltaX, pWeirdDeltaY - 1.0D, pDeltaZ);
@@ -97,10 +135,7 @@ public final class ImprovedNoise {
       double d5 = gradDot(this.p(i1 + pGridZ + 1), pDeltaX - 1.0D, pWeirdDeltaY, pDeltaZ - 1.0D);
       double d6 = gradDot(this.p(l + pGridZ + 1), pDeltaX, pWeirdDeltaY - 1.0D, pDeltaZ - 1.0D);
       double d7 = gradDot(this.p(j1 + pGridZ + 1), pDeltaX - 1.0D, pWeirdDeltaY - 1.0D, pDeltaZ - 1.0D);
-      double d8 = Mth.smoothstep(pDeltaX);
-      double d9 = Mth.smoothstep(pDeltaY);
-      double d10 = Mth.smoothstep(pDeltaZ);
-      return Mth.lerp3(d8, d9, d10, d0, d1, d2, d3, d4, d5, d6, d7);
+      return Mth.lerp3(pSmoothX, pSmoothY, pSmoothZ, d0, d1, d2, d3, d4, d5, d6, d7);
    }
 
    private double sampleWithDerivative(int pGridX, int pGridY, int pGridZ, double pDeltaX, double pDeltaY, double pDeltaZ, double[] pNoiseValues) {
@@ -17,21 +17,19 @@ public final class LazyArea implements Area {
 
    public int get(int pX, int pZ) {
       long i = ChunkPos.asLong(pX, pZ);
-      synchronized(this.cache) {
-         int j = this.cache.get(i);
-         if (j != Integer.MIN_VALUE) {
-            return j;
-         } else {
-            int k = this.transformer.apply(pX, pZ);
-            this.cache.put(i, k);
-            if (this.cache.size() > this.maxCache) {
-               for(int l = 0; l < this.maxCache / 16; ++l) {
-                  this.cache.removeFirstInt();
-               }
+      int j = this.cache.get(i);
+      if (j != Integer.MIN_VALUE) {
+         return j;
+      } else {
+         int k = this.transformer.apply(pX, pZ);
+         this.cache.put(i, k);
+         if (this.cache.size() > this.maxCache) {
+            for(int l = 0; l < this.maxCache / 16; ++l) {
+               this.cache.removeFirstInt();
             }
-
-            return k;
          }
+
+         return k;
       }
    }
 
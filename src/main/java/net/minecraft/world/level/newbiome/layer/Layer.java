@@ -1,5 +1,6 @@
 package net.minecraft.world.level.newbiome.layer;
 
+import java.util.function.Supplier;
 import net.minecraft.Util;
 import net.minecraft.core.Registry;
 import net.minecraft.data.worldgen.biome.Biomes;
@@ -12,21 +13,37 @@ import org.apache.logging.log4j.Logger;
 
 public class Layer {
    private static final Logger LOGGER = LogManager.getLogger();
-   private final LazyArea area;
+   private final ThreadLocal<LazyArea> area;
 
-   public Layer(AreaFactory<LazyArea> pArea) {
-      this.area = pArea.make();
+   public Layer(Supplier<AreaFactory<LazyArea>> pArea) {
+      this.area = ThreadLocal.withInitial(() -> {
+         return pArea.get().make();
+      });
    }
 
    public Biome get(Registry<Biome> pBiomeRegistry, int pX, int pZ) {
-      int i = this.area.get(pX, pZ);
-      ResourceKey<Biome> resourcekey = Biomes.byId(i);
+      return getBiome(pBiomeRegistry, this.area.get().get(pX, pZ));
+   }
+
+   public void fill(Registry<Biome> pBiomeRegistry, int pX, int pZ, int pSizeX, int pSizeZ, Biome[] pBiomes) {
+      LazyArea lazyarea = this.area.get();
+
+      for(int i = 0; i < pSizeZ; ++i) {
+         for(int j = 0; j < pSizeX; ++j) {
+            pBiomes[i * pSizeX + j] = getBiome(pBiomeRegistry, lazyarea.get(pX + j, pZ + i));
+         }
+      }
+
+   }
+
+   private static Biome getBiome(Registry<Biome> pBiomeRegistry, int pBiomeId) {
+      ResourceKey<Biome> resourcekey = Biomes.byId(pBiomeId);
       if (resourcekey == null) {
-         throw new IllegalStateException("Unknown biome id emitted by layers: " + i);
+         throw new IllegalStateException("Unknown biome id emitted by layers: " + pBiomeId);
       } else {
          Biome biome = pBiomeRegistry.get(resourcekey);
          if (biome == null) {
-            Util.logAndPauseIfInIde("Unknown biome id: " + i);
+            Util.logAndPauseIfInIde("Unknown biome id: " + pBiomeId);
             return pBiomeRegistry.get(Biomes.byId(0));
          } else {
             return biome;
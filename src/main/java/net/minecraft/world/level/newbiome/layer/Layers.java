@@ -153,10 +153,11 @@ public class Layers implements LayerBiomes {
 
    public static Layer getDefaultLayer(long pSeed, boolean pLegacyBiomes, int pBiomeSize, int pRiverSize) {
       int i = 25;
-      AreaFactory<LazyArea> areafactory = getDefaultLayer(pLegacyBiomes, pBiomeSize, pRiverSize, (p_76728_) -> {
-         return new LazyAreaContext(25, pSeed, p_76728_);
+      return new Layer(() -> {
+         return getDefaultLayer(pLegacyBiomes, pBiomeSize, pRiverSize, (p_76728_) -> {
+            return new LazyAreaContext(25, pSeed, p_76728_);
+         });
       });
-      return new Layer(areafactory);
    }
 
    public static boolean isSame(int pLeft, int pRight) {
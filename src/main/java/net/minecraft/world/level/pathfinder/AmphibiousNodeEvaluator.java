@@ -26,6 +26,7 @@ public class AmphibiousNodeEvaluator extends WalkNodeEvaluator {
    }
 
    public void done() {
+      this.mob.setPathfindingMalus(BlockPathTypes.WATER, this.oldWaterCost);
       this.mob.setPathfindingMalus(BlockPathTypes.WALKABLE, this.oldWalkableCost);
       this.mob.setPathfindingMalus(BlockPathTypes.WATER_BORDER, this.oldWaterBorderCost);
       super.done();
@@ -2,11 +2,15 @@ package net.minecraft.world.level.pathfinder;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import javax.annotation.Nullable;
 import net.minecraft.core.BlockPos;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.PathNavigationRegion;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.phys.shapes.CollisionContext;
 
 public abstract class NodeEvaluator {
    protected PathNavigationRegion level;
@@ -18,6 +22,17 @@ public abstract class NodeEvaluator {
    protected boolean canPassDoors;
    protected boolean canOpenDoors;
    protected boolean canFloat;
+   private final float[] capturedMalus = new float[BlockPathTypes.values().length];
+   private boolean mobStateCaptured;
+   private BlockPos capturedBlockPosition;
+   private Vec3 capturedPosition;
+   private AABB capturedBoundingBox;
+   private float capturedWidth;
+   private float capturedHeight;
+   private float capturedMaxUpStep;
+   private int capturedMaxFallDistance;
+   @Nullable
+   private CollisionContext capturedCollisionContext;
 
    public void prepare(PathNavigationRegion p_77347_, Mob p_77348_) {
       this.level = p_77347_;
@@ -28,9 +43,64 @@ public abstract class NodeEvaluator {
       this.entityDepth = Mth.floor(p_77348_.getBbWidth() + 1.0F);
    }
 
+   public void captureMobState() {
+      for(BlockPathTypes blockpathtypes : BlockPathTypes.values()) {
+         this.capturedMalus[blockpathtypes.ordinal()] = this.mob.getPathfindingMalus(blockpathtypes);
+      }
+
+      this.capturedBlockPosition = this.mob.blockPosition();
+      this.capturedPosition = this.mob.position();
+      this.capturedBoundingBox = this.mob.getBoundingBox();
+      this.capturedWidth = this.mob.getBbWidth();
+      this.capturedHeight = this.mob.getBbHeight();
+      this.capturedMaxUpStep = this.mob.maxUpStep;
+      this.capturedMaxFallDistance = this.mob.getMaxFallDistance();
+      this.capturedCollisionContext = CollisionContext.of(this.mob);
+      this.mobStateCaptured = true;
+   }
+
    public void done() {
       this.level = null;
       this.mob = null;
+      this.mobStateCaptured = false;
+      this.capturedCollisionContext = null;
+   }
+
+   protected float getPathfindingMalus(Mob pMob, BlockPathTypes pNodeType) {
+      return this.mobStateCaptured && pMob == this.mob ? this.capturedMalus[pNodeType.ordinal()] : pMob.getPathfindingMalus(pNodeType);
+   }
+
+   protected BlockPos getMobBlockPosition(Mob pMob) {
+      return this.mobStateCaptured && pMob == this.mob ? this.capturedBlockPosition : pMob.blockPosition();
+   }
+
+   protected Vec3 getMobPosition() {
+      return this.mobStateCaptured ? this.capturedPosition : this.mob.position();
+   }
+
+   protected AABB getMobBoundingBox() {
+      return this.mobStateCaptured ? this.capturedBoundingBox : this.mob.getBoundingBox();
+   }
+
+   protected float getMobWidth() {
+      return this.mobStateCaptured ? this.capturedWidth : this.mob.getBbWidth();
+   }
+
+   protected float getMobHeight() {
+      return this.mobStateCaptured ? this.capturedHeight : this.mob.getBbHeight();
+   }
+
+   protected float getMobMaxUpStep() {
+      return this.mobStateCaptured ? this.capturedMaxUpStep : this.mob.maxUpStep;
+   }
+
+   protected int getMobMaxFallDistance() {
+      return this.mobStateCaptured ? this.capturedMaxFallDistance : this.mob.getMaxFallDistance();
+   }
+
+   @Nullable
+   protected CollisionContext getMobCollisionContext() {
+      return this.mobStateCaptured ? this.capturedCollisionContext : null;
    }
 
    protected Node getNode(BlockPos p_77350_) {
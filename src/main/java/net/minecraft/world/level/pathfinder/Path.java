@@ -119,6 +119,15 @@ public class Path {
       }
    }
 
+   public Path copy() {
+      Path path = new Path(Lists.newArrayList(this.nodes), this.target, this.reached);
+      path.nextNodeIndex = this.nextNodeIndex;
+      path.openSet = this.openSet;
+      path.closedSet = this.closedSet;
+      path.targetNodes = this.targetNodes;
+      return path;
+   }
+
    public boolean canReach() {
       return this.reached;
    }
@@ -8,10 +8,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import net.minecraft.core.BlockPos;
+import net.minecraft.util.profiling.InactiveProfiler;
 import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.util.profiling.metrics.MetricCategory;
 import net.minecraft.world.entity.Mob;
@@ -43,6 +46,26 @@ public class PathFinder {
       return path;
    }
 
+   public CompletableFuture<Path> findPathAsync(PathNavigationRegion pRegion, Mob pMob, Set<BlockPos> pTargetPositions, float pMaxRange, int pAccuracy, float pSearchDepthMultiplier, Executor pExecutor) {
+      this.openSet.clear();
+      this.nodeEvaluator.prepare(pRegion, pMob);
+      this.nodeEvaluator.captureMobState();
+      Node node = this.nodeEvaluator.getStart();
+      Map<Target, BlockPos> map = pTargetPositions.stream().collect(Collectors.toMap((p_182010_) -> {
+         return this.nodeEvaluator.getGoal((double)p_182010_.getX(), (double)p_182010_.getY(), (double)p_182010_.getZ());
+      }, Function.identity()));
+      return CompletableFuture.supplyAsync(() -> {
+         Path path;
+         try {
+            path = this.findPath(InactiveProfiler.INSTANCE, node, map, pMaxRange, pAccuracy, pSearchDepthMultiplier);
+         } finally {
+            this.nodeEvaluator.done();
+         }
+
+         return path;
+      }, pExecutor);
+   }
+
    @Nullable
    private Path findPath(ProfilerFiller p_164717_, Node p_164718_, Map<Target, BlockPos> p_164719_, float p_164720_, int p_164721_, float p_164722_) {
       p_164717_.push("find_path");
@@ -5,14 +5,18 @@ import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
 import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
 import java.util.EnumSet;
+import java.util.stream.StreamSupport;
 import javax.annotation.Nullable;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.tags.FluidTags;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.CollisionGetter;
+import net.minecraft.world.level.CollisionSpliterator;
 import net.minecraft.world.level.PathNavigationRegion;
 import net.minecraft.world.level.block.BaseRailBlock;
 import net.minecraft.world.level.block.Block;
@@ -22,11 +26,14 @@ import net.minecraft.world.level.block.DoorBlock;
 import net.minecraft.world.level.block.FenceGateBlock;
 import net.minecraft.world.level.block.LeavesBlock;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.level.material.Fluids;
 import net.minecraft.world.level.material.Material;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.VoxelShape;
 
 public class WalkNodeEvaluator extends NodeEvaluator {
@@ -41,7 +48,6 @@ public class WalkNodeEvaluator extends NodeEvaluator {
    }
 
    public void done() {
-      this.mob.setPathfindingMalus(BlockPathTypes.WATER, this.oldWaterCost);
       this.pathTypesByPosCache.clear();
       this.collisionCache.clear();
       super.done();
@@ -82,25 +88,25 @@ public class WalkNodeEvaluator extends NodeEvaluator {
 
       BlockPos blockpos1 = this.mob.blockPosition();
       BlockPathTypes blockpathtypes = this.getCachedBlockType(this.mob, blockpos1.getX(), i, blockpos1.getZ());
-      if (this.mob.getPathfindingMalus(blockpathtypes) < 0.0F) {
+      if (this.getPathfindingMalus(this.mob, blockpathtypes) < 0.0F) {
          AABB aabb = this.mob.getBoundingBox();
          if (this.hasPositiveMalus(blockpos$mutableblockpos.set(aabb.minX, (double)i, aabb.minZ)) || this.hasPositiveMalus(blockpos$mutableblockpos.set(aabb.minX, (double)i, aabb.maxZ)) || this.hasPositiveMalus(blockpos$mutableblockpos.set(aabb.maxX, (double)i, aabb.minZ)) || this.hasPositiveMalus(blockpos$mutableblockpos.set(aabb.maxX, (double)i, aabb.maxZ))) {
             Node node = this.getNode(blockpos$mutableblockpos);
             node.type = this.getBlockPathType(this.mob, node.asBlockPos());
-            node.costMalus = this.mob.getPathfindingMalus(node.type);
+            node.costMalus = this.getPathfindingMalus(this.mob, node.type);
             return node;
          }
       }
 
       Node node1 = this.getNode(blockpos1.getX(), i, blockpos1.getZ());
       node1.type = this.getBlockPathType(this.mob, node1.asBlockPos());
-      node1.costMalus = this.mob.getPathfindingMalus(node1.type);
+      node1.costMalus = this.getPathfindingMalus(this.mob, node1.type);
       return node1;
    }
 
    private boolean hasPositiveMalus(BlockPos p_77647_) {
       BlockPathTypes blockpathtypes = this.getBlockPathType(this.mob, p_77647_);
-      return this.mob.getPathfindingMalus(blockpathtypes) >= 0.0F;
+      return this.getPathfindingMalus(this.mob, blockpathtypes) >= 0.0F;
    }
 
    public Target getGoal(double p_77550_, double p_77551_, double p_77552_) {
@@ -112,8 +118,8 @@ public class WalkNodeEvaluator extends NodeEvaluator {
       int j = 0;
       BlockPathTypes blockpathtypes = this.getCachedBlockType(this.mob, p_77641_.x, p_77641_.y + 1, p_77641_.z);
       BlockPathTypes blockpathtypes1 = this.getCachedBlockType(this.mob, p_77641_.x, p_77641_.y, p_77641_.z);
-      if (this.mob.getPathfindingMalus(blockpathtypes) >= 0.0F && blockpathtypes1 != BlockPathTypes.STICKY_HONEY) {
-         j = Mth.floor(Math.max(1.0F, this.mob.maxUpStep));
+      if (this.getPathfindingMalus(this.mob, blockpathtypes) >= 0.0F && blockpathtypes1 != BlockPathTypes.STICKY_HONEY) {
+         j = Mth.floor(Math.max(1.0F, this.getMobMaxUpStep()));
       }
 
       double d0 = this.getFloorLevel(new BlockPos(p_77641_.x, p_77641_.y, p_77641_.z));
@@ -170,7 +176,7 @@ public class WalkNodeEvaluator extends NodeEvaluator {
             return false;
          } else if (p_77632_.y <= p_77630_.y && p_77631_.y <= p_77630_.y) {
             if (p_77631_.type != BlockPathTypes.WALKABLE_DOOR && p_77632_.type != BlockPathTypes.WALKABLE_DOOR && p_77633_.type != BlockPathTypes.WALKABLE_DOOR) {
-               boolean flag = p_77632_.type == BlockPathTypes.FENCE && p_77631_.type == BlockPathTypes.FENCE && (double)this.mob.getBbWidth() < 0.5D;
+               boolean flag = p_77632_.type == BlockPathTypes.FENCE && p_77631_.type == BlockPathTypes.FENCE && (double)this.getMobWidth() < 0.5D;
                return p_77633_.costMalus >= 0.0F && (p_77632_.y < p_77630_.y || p_77632_.costMalus >= 0.0F || flag) && (p_77631_.y < p_77630_.y || p_77631_.costMalus >= 0.0F || flag);
             } else {
                return false;
@@ -184,8 +190,9 @@ public class WalkNodeEvaluator extends NodeEvaluator {
    }
 
    private boolean canReachWithoutCollision(Node p_77625_) {
-      Vec3 vec3 = new Vec3((double)p_77625_.x - this.mob.getX(), (double)p_77625_.y - this.mob.getY(), (double)p_77625_.z - this.mob.getZ());
-      AABB aabb = this.mob.getBoundingBox();
+      Vec3 vec31 = this.getMobPosition();
+      Vec3 vec3 = new Vec3((double)p_77625_.x - vec31.x, (double)p_77625_.y - vec31.y, (double)p_77625_.z - vec31.z);
+      AABB aabb = this.getMobBoundingBox();
       int i = Mth.ceil(vec3.length() / aabb.getSize());
       vec3 = vec3.scale((double)(1.0F / (float)i));
 
@@ -222,8 +229,8 @@ public class WalkNodeEvaluator extends NodeEvaluator {
          return null;
       } else {
          BlockPathTypes blockpathtypes = this.getCachedBlockType(this.mob, p_164726_, p_164727_, p_164728_);
-         float f = this.mob.getPathfindingMalus(blockpathtypes);
-         double d1 = (double)this.mob.getBbWidth() / 2.0D;
+         float f = this.getPathfindingMalus(this.mob, blockpathtypes);
+         double d1 = (double)this.getMobWidth() / 2.0D;
          if (f >= 0.0F) {
             node = this.getNode(p_164726_, p_164727_, p_164728_);
             node.type = blockpathtypes;
@@ -237,10 +244,10 @@ public class WalkNodeEvaluator extends NodeEvaluator {
          if (blockpathtypes != BlockPathTypes.WALKABLE && (!this.isAmphibious() || blockpathtypes != BlockPathTypes.WATER)) {
             if ((node == null || node.costMalus < 0.0F) && p_164729_ > 0 && blockpathtypes != BlockPathTypes.FENCE && blockpathtypes != BlockPathTypes.UNPASSABLE_RAIL && blockpathtypes != BlockPathTypes.TRAPDOOR && blockpathtypes != BlockPathTypes.POWDER_SNOW) {
                node = this.findAcceptedNode(p_164726_, p_164727_ + 1, p_164728_, p_164729_ - 1, p_164730_, p_164731_, p_164732_);
-               if (node != null && (node.type == BlockPathTypes.OPEN || node.type == BlockPathTypes.WALKABLE) && this.mob.getBbWidth() < 1.0F) {
+               if (node != null && (node.type == BlockPathTypes.OPEN || node.type == BlockPathTypes.WALKABLE) && this.getMobWidth() < 1.0F) {
                   double d2 = (double)(p_164726_ - p_164731_.getStepX()) + 0.5D;
                   double d3 = (double)(p_164728_ - p_164731_.getStepZ()) + 0.5D;
-                  AABB aabb = new AABB(d2 - d1, getFloorLevel(this.level, blockpos$mutableblockpos.set(d2, (double)(p_164727_ + 1), d3)) + 0.001D, d3 - d1, d2 + d1, (double)this.mob.getBbHeight() + getFloorLevel(this.level, blockpos$mutableblockpos.set((double)node.x, (double)node.y, (double)node.z)) - 0.002D, d3 + d1);
+                  AABB aabb = new AABB(d2 - d1, getFloorLevel(this.level, blockpos$mutableblockpos.set(d2, (double)(p_164727_ + 1), d3)) + 0.001D, d3 - d1, d2 + d1, (double)this.getMobHeight() + getFloorLevel(this.level, blockpos$mutableblockpos.set((double)node.x, (double)node.y, (double)node.z)) - 0.002D, d3 + d1);
                   if (this.hasCollisions(aabb)) {
                      node = null;
                   }
@@ -261,7 +268,7 @@ public class WalkNodeEvaluator extends NodeEvaluator {
 
                   node = this.getNode(p_164726_, p_164727_, p_164728_);
                   node.type = blockpathtypes;
-                  node.costMalus = Math.max(node.costMalus, this.mob.getPathfindingMalus(blockpathtypes));
+                  node.costMalus = Math.max(node.costMalus, this.getPathfindingMalus(this.mob, blockpathtypes));
                }
             }
 
@@ -278,7 +285,7 @@ public class WalkNodeEvaluator extends NodeEvaluator {
                      return node3;
                   }
 
-                  if (j++ >= this.mob.getMaxFallDistance()) {
+                  if (j++ >= this.getMobMaxFallDistance()) {
                      Node node2 = this.getNode(p_164726_, p_164727_, p_164728_);
                      node2.type = BlockPathTypes.BLOCKED;
                      node2.costMalus = -1.0F;
@@ -286,7 +293,7 @@ public class WalkNodeEvaluator extends NodeEvaluator {
                   }
 
                   blockpathtypes = this.getCachedBlockType(this.mob, p_164726_, p_164727_, p_164728_);
-                  f = this.mob.getPathfindingMalus(blockpathtypes);
+                  f = this.getPathfindingMalus(this.mob, blockpathtypes);
                   if (blockpathtypes != BlockPathTypes.OPEN && f >= 0.0F) {
                      node = this.getNode(p_164726_, p_164727_, p_164728_);
                      node.type = blockpathtypes;
@@ -319,14 +326,15 @@ public class WalkNodeEvaluator extends NodeEvaluator {
 
    private boolean hasCollisions(AABB p_77635_) {
       return this.collisionCache.computeIfAbsent(p_77635_, (p_77638_) -> {
-         return !this.level.noCollision(this.mob, p_77635_);
+         CollisionContext collisioncontext = this.getMobCollisionContext();
+         return collisioncontext != null ? !StreamSupport.stream(new CollisionSpliterator(this.level, collisioncontext, this.getMobBoundingBox(), p_77635_), false).allMatch(VoxelShape::isEmpty) : !this.level.noCollision(this.mob, p_77635_);
       });
    }
 
    public BlockPathTypes getBlockPathType(BlockGetter pBlockaccess, int pX, int pY, int pZ, Mob pEntityliving, int pXSize, int pYSize, int pZSize, boolean pCanBreakDoors, boolean pCanEnterDoors) {
       EnumSet<BlockPathTypes> enumset = EnumSet.noneOf(BlockPathTypes.class);
       BlockPathTypes blockpathtypes = BlockPathTypes.BLOCKED;
-      BlockPos blockpos = pEntityliving.blockPosition();
+      BlockPos blockpos = this.getMobBlockPosition(pEntityliving);
       blockpathtypes = this.getBlockPathTypes(pBlockaccess, pX, pY, pZ, pXSize, pYSize, pZSize, pCanBreakDoors, pCanEnterDoors, enumset, blockpathtypes, blockpos);
       if (enumset.contains(BlockPathTypes.FENCE)) {
          return BlockPathTypes.FENCE;
@@ -336,16 +344,16 @@ public class WalkNodeEvaluator extends NodeEvaluator {
          BlockPathTypes blockpathtypes1 = BlockPathTypes.BLOCKED;
 
          for(BlockPathTypes blockpathtypes2 : enumset) {
-            if (pEntityliving.getPathfindingMalus(blockpathtypes2) < 0.0F) {
+            if (this.getPathfindingMalus(pEntityliving, blockpathtypes2) < 0.0F) {
                return blockpathtypes2;
             }
 
-            if (pEntityliving.getPathfindingMalus(blockpathtypes2) >= pEntityliving.getPathfindingMalus(blockpathtypes1)) {
+            if (this.getPathfindingMalus(pEntityliving, blockpathtypes2) >= this.getPathfindingMalus(pEntityliving, blockpathtypes1)) {
                blockpathtypes1 = blockpathtypes2;
             }
          }
 
-         return blockpathtypes == BlockPathTypes.OPEN && pEntityliving.getPathfindingMalus(blockpathtypes1) == 0.0F && pXSize <= 1 ? BlockPathTypes.OPEN : blockpathtypes1;
+         return blockpathtypes == BlockPathTypes.OPEN && this.getPathfindingMalus(pEntityliving, blockpathtypes1) == 0.0F && pXSize <= 1 ? BlockPathTypes.OPEN : blockpathtypes1;
       }
    }
 
@@ -405,6 +413,45 @@ public class WalkNodeEvaluator extends NodeEvaluator {
    }
 
    public static BlockPathTypes getBlockPathTypeStatic(BlockGetter pLevel, BlockPos.MutableBlockPos pPos) {
+      int i = pPos.getX();
+      int j = pPos.getY();
+      int k = pPos.getZ();
+      LevelChunkSection levelchunksection = getPathTypeCacheSection(pLevel, i, j, k);
+      if (levelchunksection == null) {
+         return computeBlockPathTypeStatic(pLevel, pPos);
+      } else {
+         BlockPathTypes blockpathtypes = levelchunksection.getCachedPathType(i & 15, j & 15, k & 15);
+         if (blockpathtypes == null) {
+            blockpathtypes = computeBlockPathTypeStatic(pLevel, pPos);
+            if (!pLevel.getBlockState(pPos.set(i, j, k)).getBlock().hasDynamicShape() && !pLevel.getBlockState(pPos.set(i, j - 1, k)).getBlock().hasDynamicShape()) {
+               levelchunksection.setCachedPathType(i & 15, j & 15, k & 15, blockpathtypes);
+            }
+         }
+
+         return blockpathtypes;
+      }
+   }
+
+   @Nullable
+   private static LevelChunkSection getPathTypeCacheSection(BlockGetter pLevel, int pX, int pY, int pZ) {
+      int i = pX & 15;
+      int j = pZ & 15;
+      if (i != 0 && i != 15 && j != 0 && j != 15 && pLevel instanceof CollisionGetter) {
+         BlockGetter blockgetter = ((CollisionGetter)pLevel).getChunkForCollisions(SectionPos.blockToSectionCoord(pX), SectionPos.blockToSectionCoord(pZ));
+         if (blockgetter instanceof LevelChunk) {
+            LevelChunk levelchunk = (LevelChunk)blockgetter;
+            int k = levelchunk.getSectionIndex(pY);
+            if (k >= 0 && k < levelchunk.getSections().length) {
+               LevelChunkSection levelchunksection = levelchunk.getSections()[k];
+               return levelchunksection != null && levelchunksection.canCachePathTypes() ? levelchunksection : null;
+            }
+         }
+      }
+
+      return null;
+   }
+
+   private static BlockPathTypes computeBlockPathTypeStatic(BlockGetter pLevel, BlockPos.MutableBlockPos pPos) {
       int i = pPos.getX();
       int j = pPos.getY();
       int k = pPos.getZ();
@@ -7,6 +7,7 @@ import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
 import it.unimi.dsi.fastutil.doubles.DoubleList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 import net.minecraft.Util;
@@ -185,6 +186,40 @@ public final class Shapes {
       return pDesiredOffset;
    }
 
+   public static double collide(Direction.Axis pMovementAxis, AABB pCollisionBox, List<AABB> pPossibleHits, double pDesiredOffset) {
+      AxisCycle axiscycle = AxisCycle.between(pMovementAxis, Direction.Axis.X).inverse();
+      Direction.Axis direction$axis = axiscycle.cycle(Direction.Axis.Y);
+      Direction.Axis direction$axis1 = axiscycle.cycle(Direction.Axis.Z);
+
+      for(int i = 0; i < pPossibleHits.size(); ++i) {
+         if (Math.abs(pDesiredOffset) < 1.0E-7D) {
+            return 0.0D;
+         }
+
+         pDesiredOffset = collide(pMovementAxis, direction$axis, direction$axis1, pCollisionBox, pPossibleHits.get(i), pDesiredOffset);
+      }
+
+      return pDesiredOffset;
+   }
+
+   private static double collide(Direction.Axis pMovementAxis, Direction.Axis pAxis1, Direction.Axis pAxis2, AABB pCollisionBox, AABB pHit, double pDesiredOffset) {
+      if (pCollisionBox.max(pAxis1) - 1.0E-7D >= pHit.min(pAxis1) && pCollisionBox.min(pAxis1) + 1.0E-7D < pHit.max(pAxis1) && pCollisionBox.max(pAxis2) - 1.0E-7D >= pHit.min(pAxis2) && pCollisionBox.min(pAxis2) + 1.0E-7D < pHit.max(pAxis2)) {
+         if (pDesiredOffset > 0.0D) {
+            double d0 = pCollisionBox.max(pMovementAxis);
+            if (d0 - 1.0E-7D < pHit.min(pMovementAxis)) {
+               return Math.min(pDesiredOffset, pHit.min(pMovementAxis) - d0);
+            }
+         } else if (pDesiredOffset < 0.0D) {
+            double d1 = pCollisionBox.min(pMovementAxis);
+            if (d1 + 1.0E-7D >= pHit.max(pMovementAxis)) {
+               return Math.max(pDesiredOffset, pHit.max(pMovementAxis) - d1);
+            }
+         }
+      }
+
+      return pDesiredOffset;
+   }
+
    public static double collide(Direction.Axis pMovementAxis, AABB pCollisionBox, LevelReader pLevelReader, double pDesiredOffset, CollisionContext pSelectionContext, Stream<VoxelShape> pPossibleHits) {
       return collide(pCollisionBox, pLevelReader, pDesiredOffset, pSelectionContext, AxisCycle.between(pMovementAxis, Direction.Axis.Z), pPossibleHits);
    }
@@ -239,7 +274,21 @@ public final class Shapes {
                         blockpos$mutableblockpos.set(axiscycle, i2, j2, l1);
                         BlockState blockstate = pLevelReader.getBlockState(blockpos$mutableblockpos);
                         if ((k2 != 1 || blockstate.hasLargeCollisionShape()) && (k2 != 2 || blockstate.is(Blocks.MOVING_PISTON))) {
-                           pDesiredOffset = blockstate.getCollisionShape(pLevelReader, blockpos$mutableblockpos, pSelectionContext).collide(direction$axis2, pCollisionBox.move((double)(-blockpos$mutableblockpos.getX()), (double)(-blockpos$mutableblockpos.getY()), (double)(-blockpos$mutableblockpos.getZ())), pDesiredOffset);
+                           VoxelShape voxelshape = blockstate.getCollisionShape(pLevelReader, blockpos$mutableblockpos, pSelectionContext);
+                           AABB[] aabbs = blockstate.getCollisionBoxes(voxelshape);
+                           if (aabbs == null) {
+                              pDesiredOffset = voxelshape.collide(direction$axis2, pCollisionBox.move((double)(-blockpos$mutableblockpos.getX()), (double)(-blockpos$mutableblockpos.getY()), (double)(-blockpos$mutableblockpos.getZ())), pDesiredOffset);
+                           } else if (aabbs.length > 0) {
+                              AABB aabb = pCollisionBox.move((double)(-blockpos$mutableblockpos.getX()), (double)(-blockpos$mutableblockpos.getY()), (double)(-blockpos$mutableblockpos.getZ()));
+                              if (blockstate.hasSingleCollisionBox(voxelshape)) {
+                                 pDesiredOffset = collide(direction$axis2, direction$axis, direction$axis1, aabb, aabbs[0], pDesiredOffset);
+                              } else {
+                                 for(AABB aabb1 : aabbs) {
+                                    pDesiredOffset = collide(direction$axis2, direction$axis, direction$axis1, aabb, aabb1, pDesiredOffset);
+                                 }
+                              }
+                           }
+
                            if (Math.abs(pDesiredOffset) < 1.0E-7D) {
                               return 0.0D;
                            }